@@ -0,0 +1,38 @@
+// 신고 조회 API 부하 테스트 (k6)
+//
+// 플랫폼 스레드와 가상 스레드 처리량 비교:
+//   1) ./gradlew bootRun --args='--threads.virtual.enabled=false'
+//      k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<관리자 JWT> loadtest/report-api.js
+//   2) ./gradlew bootRun --args='--threads.virtual.enabled=true'
+//      같은 명령으로 다시 실행
+// 두 결과의 http_reqs(초당 요청 수)와 http_req_duration p(95)를 비교합니다. 가상 스레드 모드에서는
+// /actuator/metrics/jvm.threads.virtual.pinned 로 고정 발생 횟수도 함께 확인합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const HEADERS = { headers: { Authorization: `Bearer ${__ENV.TOKEN}` } };
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 800 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+};
+
+export default function () {
+    // 커서 조회는 요청마다 Firestore를 호출해 블로킹 구간이 길고, 통계/목록은 미러와 DB(Admin 조회)를 거침
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/reports?pageToken=&size=20`, null, HEADERS],
+        ['GET', `${BASE_URL}/api/reports?page=0&size=20`, null, HEADERS],
+        ['GET', `${BASE_URL}/api/reports/statistics`, null, HEADERS],
+    ]);
+    responses.forEach((res) => check(res, { 'status 200': (r) => r.status === 200 }));
+}
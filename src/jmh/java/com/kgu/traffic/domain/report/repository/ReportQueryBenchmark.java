@@ -0,0 +1,169 @@
+package com.kgu.traffic.domain.report.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * report 테이블 조회 조건별 비용 비교 (로컬 MySQL 필요)
+ *
+ * <ul>
+ *   <li>approvedByDateFunction / approvedByDateRange: DATE(approved_at) = ? 와 [하루 시작, 다음 날 시작) 범위</li>
+ *   <li>thisMonthFunction / thisMonthRange: MONTH()/YEAR() 비교와 [월 시작, 다음 달 시작) 범위</li>
+ * </ul>
+ *
+ * <p>마이그레이션(V1, V2)이 적용된 DB를 -Dbench.db.url, -Dbench.db.user, -Dbench.db.password로 지정하면, 행 수가
+ * -Dbench.rows(기본 1,000,000)보다 적을 때 무작위 신고를 채운 뒤 측정합니다. 실행 전후로 EXPLAIN을 출력해 전체 스캔(type=ALL,
+ * index)이 인덱스 범위 탐색(type=range)으로 바뀌었는지 함께 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ReportQueryBenchmark {
+
+    private static final String[] BRANDS = {"kickgoing", "swing", "gcoo", "beam", "deer"};
+    private static final String[] STATUSES = {"PENDING", "APPROVED", "REJECTED"};
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    private static final String APPROVED_BY_DATE_FUNCTION =
+            "SELECT id FROM report WHERE status = 'APPROVED' AND brand = ? AND DATE(approved_at) = ?";
+    private static final String APPROVED_BY_DATE_RANGE =
+            "SELECT id FROM report WHERE status = 'APPROVED' AND brand = ? AND approved_at >= ? AND approved_at < ?";
+    private static final String THIS_MONTH_FUNCTION =
+            "SELECT COUNT(*) FROM report WHERE MONTH(reported_at) = MONTH(?) AND YEAR(reported_at) = YEAR(?)";
+    private static final String THIS_MONTH_RANGE =
+            "SELECT COUNT(*) FROM report WHERE reported_at >= ? AND reported_at < ?";
+
+    private Connection connection;
+    private LocalDate date;
+    private YearMonth month;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.db.url", "jdbc:mysql://localhost:3306/traffic_bench?rewriteBatchedStatements=true"),
+                System.getProperty("bench.db.user", "root"),
+                System.getProperty("bench.db.password", "")
+        );
+        seed(Long.getLong("bench.rows", 1_000_000L));
+        date = LocalDate.now().minusDays(7);
+        month = YearMonth.now();
+
+        explain(APPROVED_BY_DATE_FUNCTION, BRANDS[0], date);
+        explain(APPROVED_BY_DATE_RANGE, BRANDS[0], date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        explain(THIS_MONTH_FUNCTION, month.atDay(1), month.atDay(1));
+        explain(THIS_MONTH_RANGE, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int approvedByDateFunction() throws SQLException {
+        return countRows(APPROVED_BY_DATE_FUNCTION, BRANDS[0], date);
+    }
+
+    @Benchmark
+    public int approvedByDateRange() throws SQLException {
+        return countRows(APPROVED_BY_DATE_RANGE, BRANDS[0], date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    @Benchmark
+    public int thisMonthFunction() throws SQLException {
+        return countRows(THIS_MONTH_FUNCTION, month.atDay(1), month.atDay(1));
+    }
+
+    @Benchmark
+    public int thisMonthRange() throws SQLException {
+        return countRows(THIS_MONTH_RANGE, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    private int countRows(String sql, Object... params) throws SQLException {
+        try (PreparedStatement statement = prepare(sql, params); ResultSet rs = statement.executeQuery()) {
+            int rows = 0;
+            while (rs.next()) rows++;
+            return rows;
+        }
+    }
+
+    private void explain(String sql, Object... params) throws SQLException {
+        try (PreparedStatement statement = prepare("EXPLAIN " + sql, params); ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                System.out.printf("%s%n  -> type=%s, key=%s, rows=%s%n",
+                        sql, rs.getString("type"), rs.getString("key"), rs.getString("rows"));
+            }
+        }
+    }
+
+    private PreparedStatement prepare(String sql, Object... params) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < params.length; i++) {
+            Object param = params[i];
+            if (param instanceof LocalDateTime dateTime) {
+                statement.setTimestamp(i + 1, Timestamp.valueOf(dateTime));
+            } else if (param instanceof LocalDate localDate) {
+                statement.setObject(i + 1, localDate);
+            } else {
+                statement.setObject(i + 1, param);
+            }
+        }
+        return statement;
+    }
+
+    // 최근 2년에 고르게 퍼진 신고를 채움 (승인 건은 신고 후 0~3일 사이 승인)
+    private void seed(long targetRows) throws SQLException {
+        long existing;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM report")) {
+            rs.next();
+            existing = rs.getLong(1);
+        }
+        if (existing >= targetRows) return;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+        long spanMinutes = 2L * 365 * 24 * 60;
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO report (title, status, reported_at, brand, approved_at, firestore_doc_id) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long i = existing; i < targetRows; i++) {
+                LocalDateTime reportedAt = now.minusMinutes(random.nextLong(spanMinutes));
+                String status = STATUSES[random.nextInt(STATUSES.length)];
+                insert.setString(1, "bench-" + i);
+                insert.setString(2, status);
+                insert.setTimestamp(3, Timestamp.valueOf(reportedAt));
+                insert.setString(4, BRANDS[random.nextInt(BRANDS.length)]);
+                insert.setTimestamp(5, "APPROVED".equals(status)
+                        ? Timestamp.valueOf(reportedAt.plusMinutes(random.nextLong(3 * 24 * 60))) : null);
+                insert.setString(6, "bench-" + i);
+                insert.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE report");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kgu.traffic.domain.report.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conclusion date 문자열 한 건당 파싱 비용 비교
+ *
+ * <ul>
+ *   <li>legacy: 이전 방식. 호출마다 포매터 5개를 새로 만들고 실패 예외로 다음 형식을 시도</li>
+ *   <li>detected: 미리 만든 포매터 + 모양 판별 + 출처별 형식 기억</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConclusionDateParserBenchmark {
+
+    @Param({
+            "2025년 5월 3일 오후 3시 5분 2초 UTC+9",
+            "2025-05-03T15:05:02.123+09:00",
+            "1746252302000"
+    })
+    public String input;
+
+    private ConclusionDateParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new ConclusionDateParser();
+    }
+
+    @Benchmark
+    public LocalDateTime legacy() {
+        return legacyParse(input);
+    }
+
+    @Benchmark
+    public LocalDateTime detected() {
+        return parser.parse("Conclusion", input);
+    }
+
+    private static LocalDateTime legacyParse(String s) {
+        String cleaned = s.replace("UTC+9", "").replace("KST", "").trim();
+        String[] patterns = {
+                "yyyy년 M월 d일 a h시 m분 s초",
+                "yyyy년 M월 d일 a h시 m분",
+                "yyyy-MM-dd HH:mm:ss",
+                "yyyy-MM-dd'T'HH:mm:ssXXX",
+                "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
+        };
+        for (String p : patterns) {
+            try {
+                return LocalDateTime.parse(cleaned, DateTimeFormatter.ofPattern(p, Locale.KOREAN));
+            } catch (Exception ignore) {}
+        }
+        try {
+            return OffsetDateTime.parse(s).toLocalDateTime();
+        } catch (Exception ignore) {}
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(s.trim())).atZone(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (Exception ignore) {}
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.kgu.traffic.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 JWT 인증 비용 비교
+ *
+ * <ul>
+ *   <li>legacy: 이전 방식. validateToken, getLoginId가 각각 파서를 새로 만들고 서명을 검증 (요청당 2회)</li>
+ *   <li>singleParse: 미리 만든 키/파서로 한 번만 파싱 (캐시 미적중 경로)</li>
+ *   <li>cachedVerify: 최근 검증한 토큰 캐시 적중 경로</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private String secret;
+    private String token;
+    private JwtProvider provider;
+    private JwtProvider uncachedProvider;
+
+    @Setup
+    public void setUp() {
+        secret = Encoders.BASE64.encode("benchmark-secret-key-benchmark-secret-key".getBytes(StandardCharsets.UTF_8));
+        provider = new JwtProvider(secret, 10_000, null);
+        uncachedProvider = new JwtProvider(secret, 0, null);
+        token = provider.createToken("admin01");
+        provider.verify(token);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String legacy() {
+        Jwts.parser().setSigningKey(secret).parseClaimsJws(token);
+        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return uncachedProvider.verify(token).map(Claims::getSubject).orElseThrow();
+    }
+
+    @Benchmark
+    public String cachedVerify() {
+        return provider.verify(token).map(Claims::getSubject).orElseThrow();
+    }
+}
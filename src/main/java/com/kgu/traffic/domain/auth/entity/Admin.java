@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(AdminCacheEvictionListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,26 @@
+package com.kgu.traffic.domain.auth.entity;
+
+import com.kgu.traffic.global.cache.AdminPrincipalCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Admin 엔티티 변경 시 AdminPrincipalCache 항목을 비우는 JPA 엔티티 리스너
+ *
+ * <p>Hibernate가 EntityManagerFactory 초기화 중에 스프링 빈 컨테이너로 생성하므로, AdminRepository에 의존하는 캐시는 호출 시점에 조회합니다.
+ */
+@RequiredArgsConstructor
+public class AdminCacheEvictionListener {
+
+    private final ObjectProvider<AdminPrincipalCache> adminPrincipalCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Admin admin) {
+        adminPrincipalCache.ifAvailable(cache -> cache.invalidate(admin.getLoginId()));
+    }
+}
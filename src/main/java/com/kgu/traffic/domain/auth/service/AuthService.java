@@ -1,6 +1,7 @@
 package com.kgu.traffic.domain.auth.service;
 
 import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.UserRecord;
 import com.google.firebase.cloud.FirestoreClient;
@@ -9,6 +10,7 @@ import com.kgu.traffic.domain.auth.dto.request.SignUpRequest;
 import com.kgu.traffic.domain.auth.dto.response.LoginResponse;
 import com.kgu.traffic.domain.auth.entity.Admin;
 import com.kgu.traffic.domain.auth.repository.AdminRepository;
+import com.kgu.traffic.global.cache.ManagerRegionCache;
 import com.kgu.traffic.global.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +27,7 @@ public class AuthService {
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final ManagerRegionCache managerRegionCache;
 
     @Transactional
     public void signup(SignUpRequest request) {
@@ -49,7 +52,9 @@ public class AuthService {
         managerData.put("name", request.name());
         managerData.put("region", request.region());
 
-        firestore.collection("Manager").document(request.email()).set(managerData);
+        managerRegionCache.invalidateAll();
+        firestore.collection("Manager").document(request.email()).set(managerData)
+                .addListener(managerRegionCache::invalidateAll, MoreExecutors.directExecutor());
 
         registerToFirebaseAuth(request.email(), request.password());
     }
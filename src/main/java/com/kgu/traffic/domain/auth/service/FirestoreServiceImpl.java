@@ -1,7 +1,10 @@
 package com.kgu.traffic.domain.auth.service;
 
 import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.firebase.cloud.FirestoreClient;
+import com.kgu.traffic.global.cache.ManagerRegionCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -9,8 +12,11 @@ import java.util.Map;
 import java.util.UUID;
 
 @Service
+@RequiredArgsConstructor
 public class FirestoreServiceImpl implements FirestoreService {
 
+    private final ManagerRegionCache managerRegionCache;
+
     @Override
     public void saveManagerToFirestore(String name, String email, String region, String classname) {
         Firestore db = FirestoreClient.getFirestore();
@@ -20,6 +26,8 @@ public class FirestoreServiceImpl implements FirestoreService {
         managerData.put("region", region);
         managerData.put("class", classname);
 
-        db.collection("Manager").document(email).set(managerData);
+        managerRegionCache.invalidateAll();
+        db.collection("Manager").document(email).set(managerData)
+                .addListener(managerRegionCache::invalidateAll, MoreExecutors.directExecutor());
     }
 }
\ No newline at end of file
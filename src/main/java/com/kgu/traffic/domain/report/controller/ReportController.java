@@ -1,22 +1,37 @@
 package com.kgu.traffic.domain.report.controller;
 
 import com.kgu.traffic.domain.report.dto.request.ReportApproveRequest;
+import com.kgu.traffic.domain.report.dto.request.ReportBatchDetailRequest;
+import com.kgu.traffic.domain.report.dto.request.ReportBulkProcessRequest;
 import com.kgu.traffic.domain.report.dto.request.ReportCreateRequest;
+import com.kgu.traffic.domain.report.dto.response.ConclusionMirrorStatusResponse;
+import com.kgu.traffic.domain.report.dto.response.ReportBatchDetailResponse;
+import com.kgu.traffic.domain.report.dto.response.ReportBulkProcessResponse;
+import com.kgu.traffic.domain.report.dto.response.ReportDailyStatisticsResponse;
 import com.kgu.traffic.domain.report.dto.response.ReportDetailResponse;
 import com.kgu.traffic.domain.report.dto.response.ReportSimpleResponse;
 import com.kgu.traffic.domain.report.dto.response.ReportStatisticsResponse;
+import com.kgu.traffic.domain.report.service.ReportETags;
+import com.kgu.traffic.domain.report.service.ReportRollupService;
 import com.kgu.traffic.domain.report.service.ReportService;
+import com.kgu.traffic.global.cache.ResponseByteCache;
 import com.kgu.traffic.global.domain.SuccessCode;
 import com.kgu.traffic.global.dto.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,22 +40,77 @@ import org.springframework.web.bind.annotation.*;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportETags reportETags;
+    private final ResponseByteCache responseByteCache;
+    private final ReportRollupService reportRollupService;
+    private final Clock clock;
 
     @GetMapping
-    @Operation(summary = "신고 목록 조회", description = "페이징 처리된 신고 목록을 반환합니다.")
-    public ApiResponse<ReportSimpleResponse> getReports(
+    @Operation(summary = "신고 목록 조회", description = "페이징 처리된 신고 목록을 반환합니다. "
+            + "pageToken을 전달하면(첫 페이지는 빈 값) (신고 시각, ID) 키셋 커서로 조회하고 metadata.nextCursor에 다음 페이지 토큰을 반환합니다.")
+    public CompletableFuture<ApiResponse<ReportSimpleResponse>> getReports(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String pageToken,
+            ServletWebRequest webRequest
     ) {
+        String etag = reportETags.forList("list");
+        if (answeredFromCache(webRequest, etag)) {
+            return null;
+        }
+        if (pageToken != null) {
+            return responseByteCache.cacheOnComplete(etag, webRequest.getRequest(),
+                    reportService.getReportsByCursorAsync(pageToken, size, null).thenApply(ApiResponse::new));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("reportedAt").descending());
-        Page<ReportSimpleResponse> reports = reportService.getReports(pageable);
-        return new ApiResponse<>(reports);
+        return responseByteCache.cacheOnComplete(etag, webRequest.getRequest(),
+                reportService.getReportsAsync(pageable).thenApply(ApiResponse::new));
+    }
+
+    @GetMapping("/records")
+    @Operation(summary = "신고 목록 조회(DB, 키셋)", description = "MySQL에 저장된 관리 지역의 신고를 최신순으로 반환합니다. "
+            + "첫 페이지는 pageToken 없이 요청하고, 이후에는 metadata.nextCursor 값을 pageToken으로 전달합니다.")
+    public ApiResponse<ReportSimpleResponse> getReportRecords(
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String pageToken
+    ) {
+        return new ApiResponse<>(reportService.getReportRecordsByCursor(pageToken, size));
+    }
+
+    @GetMapping("/records/statistics")
+    @Operation(summary = "신고 통계 조회(DB)", description = "MySQL에 저장된 관리 지역 신고의 전체 수, 월간 수, 승인/반려 수를 반환합니다.")
+    public ApiResponse<ReportStatisticsResponse> getReportRecordStatistics() {
+        return new ApiResponse<>(reportService.getReportRecordStatistics());
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "신고 상세 조회(Conclusion 원본)", description = "Conclusion 컬렉션 문서를 변환 없이 그대로 반환합니다.")
-    public ApiResponse<ReportDetailResponse> getReportDetail(@PathVariable String id) {
-        return new ApiResponse<>(reportService.getReportDetail(id));
+    public CompletableFuture<ApiResponse<ReportDetailResponse>> getReportDetail(
+            @PathVariable String id,
+            ServletWebRequest webRequest
+    ) {
+        String etag = reportETags.forDetail(id);
+        if (answeredFromCache(webRequest, etag)) {
+            return null;
+        }
+        return responseByteCache.cacheOnComplete(etag, webRequest.getRequest(),
+                reportService.getReportDetailAsync(id).thenApply(ApiResponse::new));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "신고 상세 일괄 조회", description = "여러 문서 ID의 상세 정보를 한 번에 반환합니다. "
+            + "응답은 요청 순서를 따르며, 없는 문서는 found=false 항목으로 반환합니다.")
+    public CompletableFuture<ApiResponse<ReportBatchDetailResponse>> getReportDetails(
+            @RequestBody @Valid ReportBatchDetailRequest request
+    ) {
+        return reportService.getReportDetailsAsync(request.ids()).thenApply(ApiResponse::new);
+    }
+
+    @PatchMapping("/bulk")
+    @Operation(summary = "신고 일괄 승인/반려 처리", description = "여러 신고를 한 번에 승인 또는 반려 처리합니다. "
+            + "결과는 요청 순서대로 항목별 성공 여부를 반환합니다.")
+    public ApiResponse<ReportBulkProcessResponse> processReports(@RequestBody @Valid ReportBulkProcessRequest request) {
+        return new ApiResponse<>(reportService.processReports(request.items()));
     }
 
     @PatchMapping("/{id}")
@@ -54,20 +124,55 @@ public class ReportController {
     }
 
     @GetMapping("/monthly")
-    @Operation(summary = "이번 달 신고 목록 조회", description = "이번 달에 생성된 페이징된 신고 목록을 반환합니다.")
-    public ApiResponse<ReportSimpleResponse> getMonthlyReports(
+    @Operation(summary = "이번 달 신고 목록 조회", description = "이번 달에 생성된 페이징된 신고 목록을 반환합니다. "
+            + "pageToken을 전달하면(첫 페이지는 빈 값) 이번 달 신고만 키셋 커서로 조회합니다.")
+    public CompletableFuture<ApiResponse<ReportSimpleResponse>> getMonthlyReports(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String pageToken,
+            ServletWebRequest webRequest
     ) {
+        YearMonth month = YearMonth.now(clock);
+        String etag = reportETags.forList("monthly-" + month);
+        if (answeredFromCache(webRequest, etag)) {
+            return null;
+        }
+        if (pageToken != null) {
+            return responseByteCache.cacheOnComplete(etag, webRequest.getRequest(),
+                    reportService.getReportsByCursorAsync(pageToken, size, month).thenApply(ApiResponse::new));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("reportedAt").descending());
-        Page<ReportSimpleResponse> reports = reportService.getReports(pageable);
-        return new ApiResponse<>(reports);
+        return responseByteCache.cacheOnComplete(etag, webRequest.getRequest(),
+                reportService.getReportsAsync(pageable).thenApply(ApiResponse::new));
     }
 
     @GetMapping("/statistics")
     @Operation(summary = "신고 통계 조회", description = "전체 신고 수, 월간 신고 수, 승인/반려 수를 반환합니다.")
-    public ApiResponse<ReportStatisticsResponse> getReportStatistics() {
-        return new ApiResponse<>(reportService.getReportStatistics());
+    public CompletableFuture<ApiResponse<ReportStatisticsResponse>> getReportStatistics(ServletWebRequest webRequest) {
+        String etag = reportETags.forStatistics();
+        if (answeredFromCache(webRequest, etag)) {
+            return null;
+        }
+        return responseByteCache.cacheOnComplete(etag, webRequest.getRequest(),
+                reportService.getReportStatisticsAsync().thenApply(ApiResponse::new));
+    }
+
+    @GetMapping("/statistics/daily")
+    @Operation(summary = "기간별 신고 통계 조회", description = "일별 집계를 기준으로 기간(시작일·종료일 포함) 안의 상태별 신고 수와 "
+            + "지역·브랜드·상태별 신고 수를 반환합니다. 당일 집계는 갱신 주기만큼 늦을 수 있습니다.")
+    public ApiResponse<ReportDailyStatisticsResponse> getDailyStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String brand
+    ) {
+        return new ApiResponse<>(reportRollupService.getStatistics(from, to, region, brand));
+    }
+
+    @GetMapping("/mirror/status")
+    @Operation(summary = "Conclusion 미러 상태 조회", description = "로컬 미러의 적재 여부, 문서 수, 마지막 동기화 시각과 경과 시간을 반환합니다.")
+    public ApiResponse<ConclusionMirrorStatusResponse> getMirrorStatus() {
+        return new ApiResponse<>(reportService.getMirrorStatus());
     }
 
     @PostMapping
@@ -76,4 +181,10 @@ public class ReportController {
         reportService.createReport(request);
         return new ApiResponse<>(SuccessCode.REQUEST_OK);
     }
-}
\ No newline at end of file
+
+    // If-None-Match가 일치하면 304, 같은 버전의 직렬화된 응답이 있으면 그 바이트로 응답
+    private boolean answeredFromCache(ServletWebRequest webRequest, String etag) {
+        return reportETags.notModified(webRequest, etag)
+                || responseByteCache.writeIfPresent(etag, webRequest.getRequest(), webRequest.getResponse());
+    }
+}
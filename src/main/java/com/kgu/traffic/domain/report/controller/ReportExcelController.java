@@ -1,9 +1,14 @@
 package com.kgu.traffic.domain.report.controller;
 
+import com.kgu.traffic.domain.report.dto.response.ExportJobResponse;
 import com.kgu.traffic.domain.report.service.ReportExcelService;
+import com.kgu.traffic.domain.report.service.ReportExportJobService;
+import com.kgu.traffic.global.dto.response.ApiResponse;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -14,6 +19,7 @@ import java.time.LocalDate;
 public class ReportExcelController {
 
     private final ReportExcelService reportExcelService;
+    private final ReportExportJobService reportExportJobService;
 
     @GetMapping("/excel/download")
     public void downloadExcel(
@@ -23,4 +29,27 @@ public class ReportExcelController {
     ) {
         reportExcelService.writeApprovedReportExcel(brand, date, response);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/excel/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<ExportJobResponse> submitExportJob(
+            @RequestParam String brand,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        return new ApiResponse<>(reportExportJobService.submit(brand, date));
+    }
+
+    @GetMapping("/excel/jobs/{jobId}")
+    public ApiResponse<ExportJobResponse> getExportJob(@PathVariable String jobId) {
+        return new ApiResponse<>(reportExportJobService.getJob(jobId));
+    }
+
+    @GetMapping("/excel/jobs/{jobId}/download")
+    public void downloadExportJob(
+            @PathVariable String jobId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            HttpServletResponse response
+    ) {
+        reportExportJobService.download(jobId, range, response);
+    }
+}
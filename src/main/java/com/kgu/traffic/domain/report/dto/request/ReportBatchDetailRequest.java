@@ -0,0 +1,17 @@
+package com.kgu.traffic.domain.report.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "신고 상세 일괄 조회 요청")
+public record ReportBatchDetailRequest(
+
+        @Schema(description = "Conclusion 문서 ID 목록 (응답은 이 순서를 따름)", example = "[\"docA\", \"docB\"]")
+        @NotEmpty(message = "문서 ID 목록은 필수입니다.")
+        @Size(max = 100, message = "한 번에 최대 100건까지 조회할 수 있습니다.")
+        List<@NotBlank String> ids
+) {}
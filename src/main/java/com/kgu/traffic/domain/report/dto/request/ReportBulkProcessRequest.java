@@ -0,0 +1,41 @@
+package com.kgu.traffic.domain.report.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "신고 일괄 승인/반려 요청")
+public record ReportBulkProcessRequest(
+
+        @Schema(description = "처리할 신고 목록")
+        @NotEmpty(message = "처리할 신고 목록은 필수입니다.")
+        @Size(max = 500, message = "한 번에 최대 500건까지 처리할 수 있습니다.")
+        List<@Valid Item> items
+) {
+
+    @Schema(description = "신고 한 건의 처리 내용")
+    public record Item(
+
+            @Schema(description = "Conclusion 문서 ID", example = "docA")
+            @NotBlank(message = "문서 ID는 필수입니다.")
+            String docId,
+
+            @Schema(description = "승인 여부", example = "true")
+            boolean approve,
+
+            @Schema(description = "벌금 (0원이면 0으로 입력)", example = "50000")
+            @NotNull(message = "벌금은 필수입니다.")
+            @Min(value = 0, message = "벌금은 0원 이상이어야 합니다.")
+            Integer fine,
+
+            @Schema(description = "사유", example = "광고 스팸 신고")
+            @NotBlank(message = "사유는 필수입니다.")
+            String reason
+    ) {}
+}
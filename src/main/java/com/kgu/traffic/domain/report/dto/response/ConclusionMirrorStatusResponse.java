@@ -0,0 +1,15 @@
+package com.kgu.traffic.domain.report.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Conclusion 미러 상태")
+public record ConclusionMirrorStatusResponse(
+        @Schema(description = "초기 적재 완료 여부") boolean ready,
+        @Schema(description = "스냅샷 리스너 연결 여부") boolean listening,
+        @Schema(description = "미러 문서 수") int documentCount,
+        @Schema(description = "마지막 변경 반영 시각(KST)") LocalDateTime lastSyncedAt,
+        @Schema(description = "마지막 스냅샷의 서버 읽기 시각(KST)") LocalDateTime lastReadTime,
+        @Schema(description = "마지막 변경 반영 후 경과 시간(초)") Long secondsSinceLastSync
+) {}
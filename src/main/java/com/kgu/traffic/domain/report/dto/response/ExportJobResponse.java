@@ -0,0 +1,20 @@
+package com.kgu.traffic.domain.report.dto.response;
+
+import com.kgu.traffic.domain.report.entity.ExportJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(description = "엑셀 내보내기 작업 상태")
+public record ExportJobResponse(
+        @Schema(description = "작업 ID") String jobId,
+        @Schema(description = "상태") ExportJobStatus status,
+        @Schema(description = "브랜드") String brand,
+        @Schema(description = "승인일 필터") LocalDate date,
+        @Schema(description = "기록한 행 수") Long rowCount,
+        @Schema(description = "파일 크기(byte)") Long fileSize,
+        @Schema(description = "요청 시각") LocalDateTime createdAt,
+        @Schema(description = "완료 시각") LocalDateTime completedAt,
+        @Schema(description = "실패 사유") String errorMessage
+) {}
@@ -0,0 +1,19 @@
+package com.kgu.traffic.domain.report.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "신고 상세 일괄 조회 항목")
+public record ReportBatchDetailResponse(
+        @Schema(description = "요청한 문서 ID") String id,
+        @Schema(description = "문서 존재 여부") boolean found,
+        @Schema(description = "상세 정보 (없으면 null)") ReportDetailResponse report
+) {
+
+    public static ReportBatchDetailResponse found(ReportDetailResponse report) {
+        return new ReportBatchDetailResponse(report.id(), true, report);
+    }
+
+    public static ReportBatchDetailResponse notFound(String id) {
+        return new ReportBatchDetailResponse(id, false, null);
+    }
+}
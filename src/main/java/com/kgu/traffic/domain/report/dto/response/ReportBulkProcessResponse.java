@@ -0,0 +1,22 @@
+package com.kgu.traffic.domain.report.dto.response;
+
+import com.kgu.traffic.domain.report.entity.ReportStatus;
+import com.kgu.traffic.global.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "신고 일괄 처리 결과 항목")
+public record ReportBulkProcessResponse(
+        @Schema(description = "문서 ID") String docId,
+        @Schema(description = "처리 성공 여부") boolean processed,
+        @Schema(description = "처리 후 상태 (실패 시 null)") ReportStatus status,
+        @Schema(description = "실패 사유 (성공 시 null)") String message
+) {
+
+    public static ReportBulkProcessResponse processed(String docId, ReportStatus status) {
+        return new ReportBulkProcessResponse(docId, true, status, null);
+    }
+
+    public static ReportBulkProcessResponse failed(String docId, ErrorCode errorCode) {
+        return new ReportBulkProcessResponse(docId, false, null, errorCode.getMessage());
+    }
+}
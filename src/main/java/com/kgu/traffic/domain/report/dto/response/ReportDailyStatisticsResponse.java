@@ -0,0 +1,26 @@
+package com.kgu.traffic.domain.report.dto.response;
+
+import com.kgu.traffic.domain.report.entity.ReportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "기간별 신고 통계 (일별 집계 기준)")
+public record ReportDailyStatisticsResponse(
+        @Schema(description = "시작일 (포함)") LocalDate from,
+        @Schema(description = "종료일 (포함)") LocalDate to,
+        @Schema(description = "전체 신고 수") long totalCount,
+        @Schema(description = "대기 수") long pendingCount,
+        @Schema(description = "승인 수") long approvedCount,
+        @Schema(description = "반려 수") long rejectedCount,
+        @Schema(description = "지역·브랜드·상태별 신고 수") List<Row> rows
+) {
+
+    public record Row(
+            @Schema(description = "지역") String region,
+            @Schema(description = "브랜드") String brand,
+            @Schema(description = "상태") ReportStatus status,
+            @Schema(description = "신고 수") long count
+    ) {}
+}
@@ -8,5 +8,6 @@ public record ReportSimpleResponse(
         String title,
         String reporterName,
         ReportStatus status,
-        LocalDateTime reportedAt
+        LocalDateTime reportedAt,
+        String imageUrl
 ) {}
\ No newline at end of file
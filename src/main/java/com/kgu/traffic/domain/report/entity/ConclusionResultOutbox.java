@@ -0,0 +1,49 @@
+package com.kgu.traffic.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Firestore Conclusion 문서에 반영할 심사 결과 (아웃박스)
+ *
+ * <p>Report 변경과 같은 트랜잭션에서 저장되고, ConclusionResultOutboxWorker가 Firestore에 쓴 뒤 삭제합니다.
+ */
+@Entity
+@Table(
+        name = "conclusion_result_outbox",
+        indexes = @Index(name = "idx_conclusion_result_outbox_next_attempt", columnList = "next_attempt_at, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ConclusionResultOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "firestore_doc_id", nullable = false)
+    private String firestoreDocId;
+
+    // Conclusion.result 값 (승인/반려)
+    @Column(nullable = false)
+    private String result;
+
+    private String reason;
+    private Integer fine;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,5 @@
+package com.kgu.traffic.domain.report.entity;
+
+public enum ExportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -7,6 +7,14 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(
+        indexes = {
+                @Index(name = "idx_report_status_brand_approved_at", columnList = "status, brand, approved_at"),
+                @Index(name = "idx_report_reported_at", columnList = "reported_at"),
+                @Index(name = "idx_report_region_reported_at", columnList = "region, reported_at"),
+                @Index(name = "uk_report_firestore_doc_id", columnList = "firestore_doc_id", unique = true)
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -28,6 +36,9 @@ public class Report {
     private LocalDateTime reportedAt;
 
     private String address;
+
+    // address에서 뽑은 지역(구, 없으면 시·군). 지역 조회가 LIKE 대신 인덱스를 타도록 저장 시점에 채움
+    private String region;
     private String gps;
     private String reason;
     private Integer fine;
@@ -44,6 +55,29 @@ public class Report {
     @JoinColumn(name = "admin_id")
     private Admin admin;
 
+    public static final String UNKNOWN_REGION = "기타";
+
+    /**
+     * 주소에서 지역(구, 없으면 시·군) 추출. 관리자 지역 필터와 같은 단위
+     */
+    public static String regionOf(String address) {
+        if (address == null || address.isBlank()) return UNKNOWN_REGION;
+        String fallback = null;
+        for (String token : address.trim().split("\\s+")) {
+            if (token.length() > 1 && token.endsWith("구")) return token;
+            if (fallback == null && token.length() > 1 && (token.endsWith("시") || token.endsWith("군"))) {
+                fallback = token;
+            }
+        }
+        return fallback != null ? fallback : UNKNOWN_REGION;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void fillRegion() {
+        this.region = regionOf(address);
+    }
+
     public void setApprovedAt(LocalDateTime approvedAt) {
         this.approvedAt = approvedAt;
     }
@@ -52,11 +86,11 @@ public class Report {
         this.firestoreDocId = docId;
     }
 
-    public void approve(String reason, Integer fine, Admin admin) {
+    public void approve(String reason, Integer fine, Admin admin, LocalDateTime approvedAt) {
         this.status = ReportStatus.APPROVED;
         this.reason = reason;
         this.fine = fine;
-        this.approvedAt = LocalDateTime.now();
+        this.approvedAt = approvedAt;
         this.admin = admin;
     }
 
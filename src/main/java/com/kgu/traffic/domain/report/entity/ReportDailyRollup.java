@@ -0,0 +1,44 @@
+package com.kgu.traffic.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 신고일·지역·브랜드·상태별 신고 수 (Report 일별 집계)
+ *
+ * <p>ReportRollupService가 날짜 단위로 통째로 다시 계산해 교체합니다.
+ */
+@Entity
+@Table(
+        name = "report_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_report_daily_rollup",
+                columnNames = {"stat_date", "region", "brand", "status"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReportDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private String region;
+
+    private String brand;
+
+    @Enumerated(EnumType.STRING)
+    private ReportStatus status;
+
+    @Column(name = "report_count", nullable = false)
+    private long reportCount;
+}
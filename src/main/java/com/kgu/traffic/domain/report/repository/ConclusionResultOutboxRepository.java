@@ -0,0 +1,53 @@
+package com.kgu.traffic.domain.report.repository;
+
+import com.kgu.traffic.domain.report.entity.ConclusionResultOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ConclusionResultOutboxRepository extends JpaRepository<ConclusionResultOutbox, Long> {
+
+    // SELECT ... FOR UPDATE SKIP LOCKED: 다른 인스턴스가 선점 중인 행은 기다리지 않고 건너뜀 (트랜잭션 안에서 호출)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("SELECT o FROM ConclusionResultOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.id")
+    List<ConclusionResultOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 선점한 행의 다음 시도 시각을 임대 만료 시각으로 미뤄 잠금이 풀린 뒤에도 다른 인스턴스가 읽지 않게 함
+    @Modifying
+    @Query("UPDATE ConclusionResultOutbox o SET o.nextAttemptAt = :leaseUntil WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 아직 쓰지 못한 이전 결정은 새 결정으로 대체 (문서마다 대기 행은 최대 하나)
+    @Modifying
+    @Query("DELETE FROM ConclusionResultOutbox o WHERE o.firestoreDocId IN :docIds")
+    int deleteAllByFirestoreDocIdIn(@Param("docIds") Collection<String> docIds);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    UPDATE ConclusionResultOutbox o
+    SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt, o.lastError = :error
+    WHERE o.id = :id
+""")
+    int markFailed(
+            @Param("id") Long id,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("error") String error
+    );
+}
@@ -0,0 +1,35 @@
+package com.kgu.traffic.domain.report.repository;
+
+import com.kgu.traffic.domain.report.entity.ReportDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ReportDailyRollupRepository extends JpaRepository<ReportDailyRollup, Long> {
+
+    @Query("""
+    SELECT d FROM ReportDailyRollup d
+    WHERE d.statDate >= :from AND d.statDate <= :to
+    AND (:region IS NULL OR d.region = :region)
+    AND (:brand IS NULL OR d.brand = :brand)
+""")
+    List<ReportDailyRollup> findAllInRange(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("region") String region,
+            @Param("brand") String brand
+    );
+
+    @Query("SELECT DISTINCT d.statDate FROM ReportDailyRollup d")
+    List<LocalDate> findAllStatDates();
+
+    @Modifying
+    @Query("DELETE FROM ReportDailyRollup d WHERE d.statDate = :statDate")
+    int deleteAllByStatDate(@Param("statDate") LocalDate statDate);
+}
@@ -1,53 +1,168 @@
 package com.kgu.traffic.domain.report.repository;
 
+import com.kgu.traffic.domain.report.dto.response.ReportStatisticsResponse;
 import com.kgu.traffic.domain.report.entity.Report;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
     Optional<Report> findByFirestoreDocId(String firestoreDocId);
 
-    @Query("SELECT r FROM Report r WHERE r.status = 'APPROVED' AND r.brand = :brand AND DATE(r.approvedAt) = :date")
-    List<Report> findApprovedByBrandAndDate(@Param("brand") String brand, @Param("date") LocalDate date);
+    List<Report> findAllByFirestoreDocIdIn(Collection<String> firestoreDocIds);
 
-    @Query("SELECT COUNT(r) FROM Report r")
-    long countAll();
+    // 컬럼에 함수를 씌우지 않고 [하루 시작, 다음 날 시작) 범위로 조회해야 (status, brand, approved_at) 인덱스를 탐
+    default List<Report> findApprovedByBrandAndDate(String brand, LocalDate date) {
+        return findApprovedByBrandAndApprovedAtRange(brand, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
 
-    @Query("SELECT COUNT(r) FROM Report r WHERE MONTH(r.reportedAt) = MONTH(CURRENT_DATE) AND YEAR(r.reportedAt) = YEAR(CURRENT_DATE)")
-    long countThisMonth();
+    @Query("""
+    SELECT r FROM Report r
+    WHERE r.status = 'APPROVED' AND r.brand = :brand
+    AND r.approvedAt >= :from AND r.approvedAt < :to
+""")
+    List<Report> findApprovedByBrandAndApprovedAtRange(
+            @Param("brand") String brand,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // MONTH()/YEAR() 대신 [이번 달 1일, 다음 달 1일) 범위로 조회해 reported_at 인덱스를 탐. 달은 애플리케이션 Clock(KST) 기준
+    default long countThisMonth(Clock clock) {
+        YearMonth month = YearMonth.now(clock);
+        return countByReportedAtRange(month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+    }
 
-    @Query("SELECT COUNT(r) FROM Report r WHERE r.status = 'APPROVED'")
-    long countApproved();
+    @Query("SELECT COUNT(r) FROM Report r WHERE r.reportedAt >= :from AND r.reportedAt < :to")
+    long countByReportedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-    @Query("SELECT COUNT(r) FROM Report r WHERE r.status = 'REJECTED'")
-    long countRejected();
+    /**
+     * 관리 지역의 전체/이번 달/승인/반려 수를 한 번의 스캔으로 집계 ((region, reported_at) 인덱스 범위 탐색)
+     */
+    default ReportStatisticsResponse countStatistics(String region, YearMonth month) {
+        return countStatistics(region, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    @Query("""
+    SELECT new com.kgu.traffic.domain.report.dto.response.ReportStatisticsResponse(
+        COUNT(r),
+        COALESCE(SUM(CASE WHEN r.reportedAt >= :monthStart AND r.reportedAt < :monthEnd THEN 1 ELSE 0 END), 0),
+        COALESCE(SUM(CASE WHEN r.status = 'APPROVED' THEN 1 ELSE 0 END), 0),
+        COALESCE(SUM(CASE WHEN r.status = 'REJECTED' THEN 1 ELSE 0 END), 0)
+    )
+    FROM Report r
+    WHERE r.region = :region
+""")
+    ReportStatisticsResponse countStatistics(
+            @Param("region") String region,
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("monthEnd") LocalDateTime monthEnd
+    );
+
+    // 일별 집계용: 지역·브랜드·상태별 신고 수 [region, brand, status, count]
+    @Query("""
+    SELECT COALESCE(r.region, '기타'), r.brand, r.status, COUNT(r) FROM Report r
+    WHERE r.reportedAt >= :from AND r.reportedAt < :to
+    GROUP BY COALESCE(r.region, '기타'), r.brand, r.status
+""")
+    List<Object[]> countByRegionAndBrandAndStatus(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT DISTINCT CAST(r.reportedAt AS LocalDate) FROM Report r WHERE r.reportedAt IS NOT NULL")
+    List<LocalDate> findAllReportedDates();
 
     @Query("SELECT r FROM Report r WHERE r.status = 'APPROVED' AND r.brand = :brand")
     List<Report> findApprovedByBrand(@Param("brand") String brand);
 
-    @Query("SELECT r FROM Report r WHERE r.address LIKE %:region%")
-    Page<Report> findAllByAddressContaining(@Param("region") String region, Pageable pageable);
+    // 엑셀 스트리밍 내보내기용: MySQL 드라이버가 행 단위로 읽도록 fetch size를 Integer.MIN_VALUE로 지정
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Report r LEFT JOIN FETCH r.admin WHERE r.status = 'APPROVED' AND r.brand = :brand")
+    Stream<Report> streamApprovedByBrand(@Param("brand") String brand);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+    SELECT r FROM Report r LEFT JOIN FETCH r.admin
+    WHERE r.status = 'APPROVED' AND r.brand = :brand
+    AND r.approvedAt >= :from AND r.approvedAt < :to
+""")
+    Stream<Report> streamApprovedByBrandAndApprovedAtRange(
+            @Param("brand") String brand,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // 컬럼에 함수를 씌우지 않고 [하루 시작, 다음 날 시작) 범위로 조회해야 (status, brand, approved_at) 인덱스를 탐
+    default Stream<Report> streamApprovedByBrandAndDate(String brand, LocalDate date) {
+        return streamApprovedByBrandAndApprovedAtRange(brand, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    // (region, reported_at) 인덱스 범위 탐색. region은 Report.regionOf와 같은 단위(예: "팔달구")
+    @Query("SELECT r FROM Report r WHERE r.region = :region")
+    Page<Report> findAllByRegion(@Param("region") String region, Pageable pageable);
 
     @Query("""
     SELECT r FROM Report r
-    WHERE r.address LIKE %:region%
-    AND r.reportedAt BETWEEN :startOfMonth AND :endOfMonth
+    WHERE r.region = :region
+    AND r.reportedAt >= :from AND r.reportedAt < :to
 """)
-    Page<Report> findAllByAddressContainingAndReportedAtBetween(
+    Page<Report> findAllByRegionAndReportedAtRange(
             @Param("region") String region,
-            @Param("startOfMonth") LocalDateTime startOfMonth,
-            @Param("endOfMonth") LocalDateTime endOfMonth,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
             Pageable pageable
     );
+
+    // 키셋 조회: (reported_at, id) 내림차순. MySQL은 DESC 정렬에서 NULL을 마지막에 두므로 시각 없는 행은 맨 뒤에 이어짐
+    @Query("SELECT r FROM Report r WHERE r.region = :region ORDER BY r.reportedAt DESC, r.id DESC")
+    List<Report> findLatestByRegion(@Param("region") String region, Pageable limit);
+
+    @Query("""
+    SELECT r FROM Report r
+    WHERE r.region = :region
+    AND (r.reportedAt < :reportedAt OR (r.reportedAt = :reportedAt AND r.id < :id) OR r.reportedAt IS NULL)
+    ORDER BY r.reportedAt DESC, r.id DESC
+""")
+    List<Report> findLatestByRegionBefore(
+            @Param("region") String region,
+            @Param("reportedAt") LocalDateTime reportedAt,
+            @Param("id") Long id,
+            Pageable limit
+    );
+
+    @Query("""
+    SELECT r FROM Report r
+    WHERE r.region = :region AND r.reportedAt IS NULL AND r.id < :id
+    ORDER BY r.id DESC
+""")
+    List<Report> findLatestByRegionWithoutReportedAtBefore(
+            @Param("region") String region,
+            @Param("id") Long id,
+            Pageable limit
+    );
+
+    // 지역 컬럼 백필용
+    @Query("SELECT r FROM Report r WHERE r.region IS NULL ORDER BY r.id")
+    List<Report> findAllWithoutRegion(Pageable pageable);
 }
\ No newline at end of file
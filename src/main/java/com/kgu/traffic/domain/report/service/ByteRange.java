@@ -0,0 +1,44 @@
+package com.kgu.traffic.domain.report.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 내보내기 파일 다운로드의 Range 헤더 해석 결과 (전송할 [start, end] 구간, 양 끝 포함)
+ *
+ * <p>단일 구간("bytes=10-20", "bytes=10-", "bytes=-5")만 지원하며, 다중 구간 등 지원하지 않는 형식은 무시하고 전체를 전송합니다.
+ */
+record ByteRange(long start, long end, boolean partial) {
+
+    /** 범위가 파일 밖이라 416으로 응답해야 하는 요청 */
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1, false);
+
+    // 18자리까지는 long 범위를 넘지 않음
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d{0,18})-(\\d{0,18})$");
+
+    static ByteRange parse(String rangeHeader, long size) {
+        ByteRange full = new ByteRange(0, size - 1, false);
+        if (rangeHeader == null) return full;
+
+        Matcher matcher = SINGLE_RANGE.matcher(rangeHeader.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) return full;
+
+        long start;
+        long end = size - 1;
+        if (matcher.group(1).isEmpty()) {
+            // bytes=-N : 마지막 N바이트
+            start = Math.max(0, size - Long.parseLong(matcher.group(2)));
+        } else {
+            start = Long.parseLong(matcher.group(1));
+            if (!matcher.group(2).isEmpty()) {
+                end = Math.min(end, Long.parseLong(matcher.group(2)));
+            }
+        }
+        if (start >= size || start > end) return UNSATISFIABLE;
+        return new ByteRange(start, end, true);
+    }
+
+    long length() {
+        return end - start + 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.kgu.traffic.domain.report.service;
+
+import java.util.Collection;
+
+/**
+ * ConclusionMirror에 반영된 변경을 전달받는 리스너
+ *
+ * <p>스냅샷 리스너 스레드에서 순서대로 호출되므로 구현체는 빠르게 반환해야 합니다.
+ */
+public interface ConclusionChangeListener {
+
+    /** 초기 적재 또는 재구독으로 미러 전체가 교체됨 */
+    void onReset(Collection<ConclusionEntry> entries);
+
+    /** 문서 추가(previous == null) 또는 수정 */
+    void onUpsert(ConclusionEntry previous, ConclusionEntry current);
+
+    /** 문서 삭제 */
+    void onRemove(ConclusionEntry previous);
+}
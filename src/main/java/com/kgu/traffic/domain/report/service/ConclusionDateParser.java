@@ -0,0 +1,163 @@
+package com.kgu.traffic.domain.report.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conclusion 문서의 date 필드(Timestamp, Date, 여러 형식의 문자열)를 LocalDateTime으로 변환
+ *
+ * <p>포매터는 미리 만들어 두고, 문자열은 글자 모양(구분자 위치, 한글 단위, 숫자만 여부)으로 형식을 먼저 판별한 뒤 해당 형식으로 한 번만
+ * 파싱합니다. 형식을 하나씩 시도하며 예외로 실패를 판단하지 않으므로 정상 입력에서는 예외가 발생하지 않습니다. 출처별로 마지막에 판별한
+ * 형식을 기억해 두어 같은 출처의 값은 판별 단계도 대부분 건너뜁니다.
+ */
+@Component
+public class ConclusionDateParser {
+
+    public static final String DEFAULT_SOURCE = "default";
+
+    private final Map<String, DateFormat> detectedFormats = new ConcurrentHashMap<>();
+
+    public LocalDateTime parse(Object dateObj) {
+        return parse(DEFAULT_SOURCE, dateObj);
+    }
+
+    /**
+     * @param source 값의 출처(컬렉션, 필드 등). 출처별로 판별한 형식을 기억하는 데 사용
+     */
+    public LocalDateTime parse(String source, Object dateObj) {
+        if (dateObj == null) return null;
+        if (dateObj instanceof com.google.cloud.Timestamp ts) {
+            return ts.toSqlTimestamp().toLocalDateTime();
+        } else if (dateObj instanceof java.util.Date d) {
+            return d.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+        } else if (dateObj instanceof String s) {
+            return parseText(source, s.trim());
+        }
+        return null;
+    }
+
+    private LocalDateTime parseText(String source, String text) {
+        if (text.isEmpty()) return null;
+
+        DateFormat remembered = detectedFormats.get(source);
+        DateFormat format = remembered != null && remembered.matches(text) ? remembered : DateFormat.detect(text);
+        if (format == null) return null;
+        if (format != remembered) {
+            detectedFormats.put(source, format);
+        }
+
+        try {
+            return format.parse(text);
+        } catch (DateTimeException e) {
+            // 모양은 맞지만 값이 잘못된 입력(예: 13월)만 여기로 옴
+            return null;
+        }
+    }
+
+    enum DateFormat {
+
+        // 예: 2025년 5월 3일 오후 3시 5분 2초 UTC+9
+        KOREAN_SECONDS {
+            @Override
+            boolean matches(String text) {
+                return text.indexOf('년') > 0 && text.indexOf('초') > 0;
+            }
+
+            @Override
+            LocalDateTime parse(String text) {
+                return LocalDateTime.parse(stripZone(text), KOREAN_SECONDS_FORMATTER);
+            }
+        },
+
+        // 예: 2025년 5월 3일 오후 3시 5분
+        KOREAN_MINUTES {
+            @Override
+            boolean matches(String text) {
+                return text.indexOf('년') > 0 && text.indexOf('초') < 0;
+            }
+
+            @Override
+            LocalDateTime parse(String text) {
+                return LocalDateTime.parse(stripZone(text), KOREAN_MINUTES_FORMATTER);
+            }
+        },
+
+        // 예: 2025-05-03 15:05:02
+        LOCAL_DATE_TIME {
+            @Override
+            boolean matches(String text) {
+                return text.length() == 19 && text.charAt(4) == '-' && text.charAt(10) == ' ';
+            }
+
+            @Override
+            LocalDateTime parse(String text) {
+                return LocalDateTime.parse(text, LOCAL_FORMATTER);
+            }
+        },
+
+        // 예: 2025-05-03T15:05:02+09:00, 2025-05-03T15:05:02.123Z (오프셋은 버리고 표기된 시각 그대로 사용)
+        ISO {
+            @Override
+            boolean matches(String text) {
+                return text.length() >= 19 && text.charAt(4) == '-' && text.charAt(10) == 'T';
+            }
+
+            @Override
+            LocalDateTime parse(String text) {
+                return LocalDateTime.from(DateTimeFormatter.ISO_DATE_TIME.parse(text));
+            }
+        },
+
+        // 예: 1746252302000
+        EPOCH_MILLIS {
+            @Override
+            boolean matches(String text) {
+                int start = text.charAt(0) == '-' ? 1 : 0;
+                // 18자리까지는 long 범위를 넘지 않음
+                if (text.length() == start || text.length() - start > 18) return false;
+                for (int i = start; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (c < '0' || c > '9') return false;
+                }
+                return true;
+            }
+
+            @Override
+            LocalDateTime parse(String text) {
+                return Instant.ofEpochMilli(Long.parseLong(text)).atZone(ZoneId.systemDefault()).toLocalDateTime();
+            }
+        };
+
+        private static final DateTimeFormatter KOREAN_SECONDS_FORMATTER =
+                DateTimeFormatter.ofPattern("yyyy년 M월 d일 a h시 m분 s초", Locale.KOREAN);
+        private static final DateTimeFormatter KOREAN_MINUTES_FORMATTER =
+                DateTimeFormatter.ofPattern("yyyy년 M월 d일 a h시 m분", Locale.KOREAN);
+        private static final DateTimeFormatter LOCAL_FORMATTER =
+                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss", Locale.KOREAN);
+
+        private static final DateFormat[] DETECTION_ORDER = values();
+
+        abstract boolean matches(String text);
+
+        abstract LocalDateTime parse(String text);
+
+        static DateFormat detect(String text) {
+            for (DateFormat format : DETECTION_ORDER) {
+                if (format.matches(text)) return format;
+            }
+            return null;
+        }
+
+        private static String stripZone(String text) {
+            return text.replace("UTC+9", "").replace("KST", "").trim();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 미러에 보관되는 Conclusion 문서와 적재 시점에 한 번만 계산해 두는 파생 값(실제 신고 시각, 지역 코드)
+ *
+ * @param regionCodes RegionDictionary가 부여한 지역 코드 (오름차순)
+ */
+public record ConclusionEntry(
+        String id,
+        QueryDocumentSnapshot document,
+        LocalDateTime reportedAt,
+        int[] regionCodes
+) {
+
+    /** 신고 시각 내림차순(시각 없는 문서는 마지막), 같은 시각이면 문서 ID 내림차순 */
+    public static final Comparator<ConclusionEntry> LATEST_FIRST =
+            Comparator.comparing(ConclusionEntry::reportedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                    .thenComparing(ConclusionEntry::id)
+                    .reversed();
+
+    public boolean hasRegion(int regionCode) {
+        return Arrays.binarySearch(regionCodes, regionCode) >= 0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.kgu.traffic.domain.report.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 미러에 들어온 Conclusion 이미지 URL을 미리 서명해 두는 리스너
+ *
+ * <p>초기 적재 시에는 목록 앞쪽에 보일 최근 신고부터 prefetch-limit건까지만, 이후에는 추가되거나 이미지가 바뀐 문서만 서명합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConclusionImageUrlPrefetcher implements ConclusionChangeListener {
+
+    static final String FIELD_IMAGE_URL = "imageUrl";
+    static final String FIELD_REPORT_IMAGE_URL = "reportImgUrl";
+
+    private final SignedUrlService signedUrlService;
+
+    @Value("${signed-url.prefetch-limit:500}")
+    private int prefetchLimit;
+
+    @Override
+    public void onReset(Collection<ConclusionEntry> entries) {
+        signedUrlService.prefetch(entries.stream()
+                .sorted(ConclusionEntry.LATEST_FIRST)
+                .limit(prefetchLimit)
+                .flatMap(ConclusionImageUrlPrefetcher::imageUrls)
+                .toList());
+    }
+
+    @Override
+    public void onUpsert(ConclusionEntry previous, ConclusionEntry current) {
+        List<String> urls = imageUrls(current).toList();
+        if (previous != null && urls.equals(imageUrls(previous).toList())) return;
+        signedUrlService.prefetch(urls);
+    }
+
+    @Override
+    public void onRemove(ConclusionEntry previous) {
+    }
+
+    private static Stream<String> imageUrls(ConclusionEntry entry) {
+        return Stream.of(
+                entry.document().getString(FIELD_IMAGE_URL),
+                entry.document().getString(FIELD_REPORT_IMAGE_URL)
+        ).filter(Objects::nonNull);
+    }
+}
@@ -0,0 +1,220 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.google.cloud.firestore.DocumentChange;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.google.firebase.cloud.FirestoreClient;
+import com.kgu.traffic.domain.report.dto.response.ConclusionMirrorStatusResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Conclusion 컬렉션 로컬 미러
+ *
+ * <p>애플리케이션 기동 시 Conclusion 컬렉션에 스냅샷 리스너를 등록하여 전체 문서를 한 번 적재하고, 이후에는 추가/수정/삭제
+ * 변경분만 반영합니다. 목록/상세/통계 조회는 요청마다 컬렉션 전체를 내려받는 대신 이 미러를 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConclusionMirror {
+
+    private static final String COLLECTION_CONCLUSION = "Conclusion";
+    private static final long RESUBSCRIBE_DELAY_SECONDS = 5;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final ConclusionDateParser dateParser;
+    private final RegionDictionary regionDictionary;
+    private final ConclusionVersions conclusionVersions;
+    private final ObjectProvider<ConclusionChangeListener> listenerProvider;
+
+    private final Map<String, ConclusionEntry> documents = new ConcurrentHashMap<>();
+
+    private List<ConclusionChangeListener> listeners = List.of();
+    private ListenerRegistration registration;
+    private volatile boolean ready;
+    private volatile boolean listening;
+    private volatile boolean initialSnapshot;
+    private volatile Instant lastSyncedAt;
+    private volatile Instant lastReadTime;
+    // 엔트리의 지역 코드를 계산할 때의 사전 크기 (스냅샷 리스너 스레드에서만 접근)
+    private int encodedDictionarySize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (registration != null) return;
+        // 리스너 중 미러를 주입받는 빈이 있어 생성자 대신 기동 시점에 조회
+        listeners = listenerProvider.orderedStream().toList();
+        initialSnapshot = true;
+        registration = FirestoreClient.getFirestore()
+                .collection(COLLECTION_CONCLUSION)
+                .addSnapshotListener(this::onSnapshot);
+        listening = true;
+        log.info("Conclusion 미러 리스너 등록");
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (registration != null) {
+            registration.remove();
+            registration = null;
+        }
+        listening = false;
+    }
+
+    /** 초기 적재가 끝나 미러에서 조회 가능한 상태인지 여부 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<ConclusionEntry> getAll() {
+        return List.copyOf(documents.values());
+    }
+
+    public Optional<ConclusionEntry> get(String docId) {
+        return Optional.ofNullable(documents.get(docId));
+    }
+
+    /** 적재 시점에 신고 시각과 지역 코드를 한 번만 계산해 둔 엔트리 생성 */
+    public ConclusionEntry toEntry(QueryDocumentSnapshot document) {
+        return toEntry(document, dateParser.parse(COLLECTION_CONCLUSION, document.get("date")));
+    }
+
+    private ConclusionEntry toEntry(QueryDocumentSnapshot document, LocalDateTime reportedAt) {
+        return new ConclusionEntry(document.getId(), document, reportedAt,
+                regionDictionary.encode(document.getString("region")));
+    }
+
+    public ConclusionMirrorStatusResponse getStatus() {
+        Instant synced = lastSyncedAt;
+        Instant readTime = lastReadTime;
+        return new ConclusionMirrorStatusResponse(
+                ready,
+                listening,
+                documents.size(),
+                synced != null ? LocalDateTime.ofInstant(synced, KST) : null,
+                readTime != null ? LocalDateTime.ofInstant(readTime, KST) : null,
+                synced != null ? Duration.between(synced, Instant.now()).toSeconds() : null
+        );
+    }
+
+    private void onSnapshot(QuerySnapshot snapshot, FirestoreException error) {
+        if (error != null) {
+            log.error("Conclusion 미러 리스너 오류, {}초 후 재구독합니다.", RESUBSCRIBE_DELAY_SECONDS, error);
+            resubscribe();
+            return;
+        }
+        if (snapshot == null) return;
+
+        if (initialSnapshot) {
+            // 최초(또는 재구독 후 첫) 스냅샷은 컬렉션 전체이므로 끊겨 있던 동안의 삭제까지 반영되도록 통째로 교체
+            // 지역 토큰을 먼저 한꺼번에 등록해 두어 사전(트라이)을 한 번만 다시 만듦
+            List<QueryDocumentSnapshot> all = snapshot.getDocuments();
+            regionDictionary.registerRegions(all.stream().map(document -> document.getString("region")).toList());
+
+            Map<String, ConclusionEntry> fresh = new HashMap<>();
+            for (QueryDocumentSnapshot document : all) {
+                fresh.put(document.getId(), toEntry(document));
+            }
+            documents.keySet().retainAll(fresh.keySet());
+            documents.putAll(fresh);
+            encodedDictionarySize = regionDictionary.size();
+            notifyListeners(listener -> listener.onReset(documents.values()));
+            conclusionVersions.reset();
+            initialSnapshot = false;
+            ready = true;
+            log.info("Conclusion 미러 초기 적재 완료: {}건", documents.size());
+        } else {
+            for (DocumentChange change : snapshot.getDocumentChanges()) {
+                QueryDocumentSnapshot document = change.getDocument();
+                switch (change.getType()) {
+                    case ADDED, MODIFIED -> {
+                        ConclusionEntry current = toEntry(document);
+                        ConclusionEntry previous = documents.put(document.getId(), current);
+                        notifyListeners(listener -> listener.onUpsert(previous, current));
+                        conclusionVersions.changed(previous, current);
+                    }
+                    case REMOVED -> {
+                        ConclusionEntry previous = documents.remove(document.getId());
+                        if (previous != null) {
+                            notifyListeners(listener -> listener.onRemove(previous));
+                            conclusionVersions.changed(previous, null);
+                        }
+                    }
+                }
+            }
+            reencodeIfDictionaryChanged();
+        }
+
+        lastSyncedAt = Instant.now();
+        if (snapshot.getReadTime() != null) {
+            lastReadTime = snapshot.getReadTime().toDate().toInstant();
+        }
+    }
+
+    /**
+     * 변경분에서 새 지역 이름이 등록되었으면 기존 엔트리의 지역 코드를 다시 계산
+     *
+     * <p>이미 부여된 코드는 바뀌지 않지만 붙여 쓴 지역(예: "수원시팔달구")은 새 이름으로 나뉠 수 있게 되어 조각 코드가 늘어날 수
+     * 있습니다. 코드가 달라진 엔트리만 수정 이벤트로 전달하므로 인덱스와 통계가 함께 맞춰집니다. 새 이름은
+     * 드물게만 등록되므로 전체를 다시 계산해도 부담이 크지 않습니다.
+     */
+    private void reencodeIfDictionaryChanged() {
+        int size = regionDictionary.size();
+        if (size == encodedDictionarySize) return;
+        encodedDictionarySize = size;
+
+        int changed = 0;
+        for (ConclusionEntry previous : List.copyOf(documents.values())) {
+            ConclusionEntry current = toEntry(previous.document(), previous.reportedAt());
+            if (Arrays.equals(previous.regionCodes(), current.regionCodes())) continue;
+            documents.put(current.id(), current);
+            notifyListeners(listener -> listener.onUpsert(previous, current));
+            conclusionVersions.changed(previous, current);
+            changed++;
+        }
+        if (changed > 0) {
+            log.info("지역 사전 변경으로 Conclusion 지역 코드 재계산: {}건", changed);
+        }
+    }
+
+    private void notifyListeners(Consumer<ConclusionChangeListener> action) {
+        for (ConclusionChangeListener listener : listeners) {
+            try {
+                action.accept(listener);
+            } catch (Exception e) {
+                log.error("Conclusion 변경 반영 실패: {}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private synchronized void resubscribe() {
+        if (registration != null) {
+            registration.remove();
+            registration = null;
+        }
+        listening = false;
+        CompletableFuture.delayedExecutor(RESUBSCRIBE_DELAY_SECONDS, TimeUnit.SECONDS).execute(this::start);
+    }
+}
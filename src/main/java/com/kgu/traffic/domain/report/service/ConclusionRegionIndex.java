@@ -0,0 +1,149 @@
+package com.kgu.traffic.domain.report.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지역 코드별로 나눈 Conclusion 인덱스
+ *
+ * <p>각 파티션은 신고 시각 내림차순으로 정렬된 불변 배열이며, 변경 시 이진 탐색으로 위치를 찾아 새 배열로 교체합니다. 조회는 락 없이
+ * 현재 배열을 읽으므로 페이지 조회 비용은 전체 문서 수가 아니라 페이지 크기에 비례합니다.
+ */
+@Component
+public class ConclusionRegionIndex implements ConclusionChangeListener {
+
+    private static final ConclusionEntry[] EMPTY = new ConclusionEntry[0];
+
+    private volatile Map<Integer, Partition> partitions = new ConcurrentHashMap<>();
+
+    public Optional<IndexPage> page(int regionCode, int offset, int limit) {
+        Partition partition = partitions.get(regionCode);
+        if (partition == null) return Optional.empty();
+
+        ConclusionEntry[] sorted = partition.entries;
+        int start = Math.min(offset, sorted.length);
+        int end = Math.min(start + limit, sorted.length);
+        return Optional.of(new IndexPage(List.of(Arrays.copyOfRange(sorted, start, end)), sorted.length));
+    }
+
+    /**
+     * 키셋 조회: after 다음 항목부터(없으면 before보다 이른 첫 항목부터) 최대 limit건. notBefore보다 이른 항목에서 멈춤
+     *
+     * <p>시작 위치를 이진 탐색으로 찾으므로 몇 번째 페이지든 비용이 같습니다.
+     */
+    public Optional<List<ConclusionEntry>> seek(
+            int regionCode, ReportCursor after, LocalDateTime notBefore, LocalDateTime before, int limit) {
+        Partition partition = partitions.get(regionCode);
+        if (partition == null) return Optional.empty();
+
+        ConclusionEntry[] sorted = partition.entries;
+        int start = 0;
+        if (after != null) {
+            int pos = Arrays.binarySearch(sorted, probe(after.reportedAt(), after.id()), ConclusionEntry.LATEST_FIRST);
+            start = pos >= 0 ? pos + 1 : -pos - 1;
+        } else if (before != null) {
+            // 같은 시각에서는 ID 내림차순이므로 빈 ID 탐침은 before 시각의 모든 항목 뒤에 위치
+            int pos = Arrays.binarySearch(sorted, probe(before, ""), ConclusionEntry.LATEST_FIRST);
+            start = pos >= 0 ? pos + 1 : -pos - 1;
+        }
+
+        List<ConclusionEntry> content = new ArrayList<>(Math.min(limit, sorted.length - start));
+        for (int i = start; i < sorted.length && content.size() < limit; i++) {
+            ConclusionEntry entry = sorted[i];
+            if (notBefore != null && (entry.reportedAt() == null || entry.reportedAt().isBefore(notBefore))) break;
+            content.add(entry);
+        }
+        return Optional.of(content);
+    }
+
+    private static ConclusionEntry probe(LocalDateTime reportedAt, String id) {
+        return new ConclusionEntry(id, null, reportedAt, new int[0]);
+    }
+
+    @Override
+    public void onReset(Collection<ConclusionEntry> entries) {
+        Map<Integer, List<ConclusionEntry>> grouped = new HashMap<>();
+        for (ConclusionEntry entry : entries) {
+            for (int code : entry.regionCodes()) {
+                grouped.computeIfAbsent(code, k -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        Map<Integer, Partition> rebuilt = new ConcurrentHashMap<>();
+        grouped.forEach((code, list) -> {
+            ConclusionEntry[] sorted = list.toArray(EMPTY);
+            Arrays.sort(sorted, ConclusionEntry.LATEST_FIRST);
+            rebuilt.put(code, new Partition(sorted));
+        });
+        partitions = rebuilt;
+    }
+
+    @Override
+    public void onUpsert(ConclusionEntry previous, ConclusionEntry current) {
+        if (previous != null) {
+            for (int code : previous.regionCodes()) {
+                Partition partition = partitions.get(code);
+                if (partition != null) partition.remove(previous);
+            }
+        }
+        for (int code : current.regionCodes()) {
+            partitions.computeIfAbsent(code, k -> new Partition(EMPTY)).insert(current);
+        }
+    }
+
+    @Override
+    public void onRemove(ConclusionEntry previous) {
+        for (int code : previous.regionCodes()) {
+            Partition partition = partitions.get(code);
+            if (partition != null) partition.remove(previous);
+        }
+    }
+
+    public record IndexPage(List<ConclusionEntry> content, int total) {}
+
+    private static final class Partition {
+
+        private volatile ConclusionEntry[] entries;
+
+        private Partition(ConclusionEntry[] entries) {
+            this.entries = entries;
+        }
+
+        synchronized void insert(ConclusionEntry entry) {
+            ConclusionEntry[] current = entries;
+            int pos = Arrays.binarySearch(current, entry, ConclusionEntry.LATEST_FIRST);
+            if (pos >= 0) {
+                // 같은 정렬 키(시각, ID)는 같은 문서이므로 교체
+                ConclusionEntry[] next = current.clone();
+                next[pos] = entry;
+                entries = next;
+                return;
+            }
+            int insertAt = -pos - 1;
+            ConclusionEntry[] next = new ConclusionEntry[current.length + 1];
+            System.arraycopy(current, 0, next, 0, insertAt);
+            next[insertAt] = entry;
+            System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+            entries = next;
+        }
+
+        synchronized void remove(ConclusionEntry entry) {
+            ConclusionEntry[] current = entries;
+            int pos = Arrays.binarySearch(current, entry, ConclusionEntry.LATEST_FIRST);
+            if (pos < 0) return;
+            ConclusionEntry[] next = new ConclusionEntry[current.length - 1];
+            System.arraycopy(current, 0, next, 0, pos);
+            System.arraycopy(current, pos + 1, next, pos, current.length - pos - 1);
+            entries = next;
+        }
+    }
+}
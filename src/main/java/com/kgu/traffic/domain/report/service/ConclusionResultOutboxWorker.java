@@ -0,0 +1,199 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.cloud.firestore.WriteResult;
+import com.google.firebase.cloud.FirestoreClient;
+import com.kgu.traffic.domain.report.entity.ConclusionResultOutbox;
+import com.kgu.traffic.domain.report.repository.ConclusionResultOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 심사 결과 아웃박스를 Firestore Conclusion 문서에 반영하는 작업자
+ *
+ * <p>승인/반려 요청은 Report와 같은 트랜잭션에서 아웃박스 행만 저장하고 바로 응답하며, 이 작업자가 주기적으로 대기 중인 행을
+ * WriteBatch(최대 500건)로 묶어 result/reason/fine/processedAt 필드를 씁니다. 배치가 실패하면 문서별 쓰기를 동시에 보내 실패한
+ * 문서만 지수 백오프로 재시도하고, 문서가 삭제되어 쓸 수 없는 행은 버립니다. 반영된 결과는 미러의 MODIFIED 이벤트로 통계에도 이어집니다.
+ *
+ * <p>여러 인스턴스가 같은 테이블을 처리해도 한 행은 한 작업자만 씁니다. 짧은 트랜잭션에서 대기 행을 FOR UPDATE SKIP LOCKED로
+ * 선점하고 다음 시도 시각을 claim-lease만큼 미룬 뒤 커밋하므로, Firestore에 쓰는 동안에는 DB 잠금을 잡지 않습니다. 작업자가
+ * 쓰는 도중 죽으면 임대가 끝난 뒤 다른 인스턴스가 다시 가져갑니다. claim-lease는 한 배치의 최장 처리 시간(write-timeout × 2)보다
+ * 길어야 합니다.
+ */
+@Slf4j
+@Component
+public class ConclusionResultOutboxWorker {
+
+    public static final String FIELD_RESULT = "result";
+    public static final String FIELD_REASON = "reason";
+    public static final String FIELD_FINE = "fine";
+    public static final String FIELD_PROCESSED_AT = "processedAt";
+
+    private static final String COLLECTION_CONCLUSION = "Conclusion";
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ConclusionResultOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration writeTimeout;
+    private final Duration claimLease;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+
+    public ConclusionResultOutboxWorker(
+            ConclusionResultOutboxRepository outboxRepository,
+            TransactionTemplate transactionTemplate,
+            Clock clock,
+            @Value("${report.outbox.batch-size:500}") int batchSize,
+            @Value("${report.outbox.write-timeout:PT10S}") Duration writeTimeout,
+            @Value("${report.outbox.claim-lease:PT1M}") Duration claimLease,
+            @Value("${report.outbox.backoff-base:PT5S}") Duration backoffBase,
+            @Value("${report.outbox.backoff-max:PT10M}") Duration backoffMax
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.batchSize = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        this.writeTimeout = writeTimeout;
+        this.claimLease = claimLease;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+    }
+
+    /** 대기 중인 행을 배치 단위로 모두 반영 (한 주기에 실패한 행은 다음 시도 시각까지 다시 읽지 않음) */
+    @Scheduled(fixedDelayString = "${report.outbox.flush-interval:PT2S}")
+    public void flush() {
+        List<ConclusionResultOutbox> due;
+        do {
+            due = claimDue();
+            if (due.isEmpty()) return;
+        } while (flushBatch(due) && due.size() == batchSize);
+    }
+
+    // 대기 행을 잠그고 임대를 건 뒤 바로 커밋 (반영에 실패한 행은 markFailed가 임대 대신 백오프 시각을 씀)
+    private List<ConclusionResultOutbox> claimDue() {
+        List<ConclusionResultOutbox> due = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<ConclusionResultOutbox> rows = outboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            if (!rows.isEmpty()) {
+                outboxRepository.lease(rows.stream().map(ConclusionResultOutbox::getId).toList(), now.plus(claimLease));
+            }
+            return rows;
+        });
+        return due != null ? due : List.of();
+    }
+
+    // 배치 전체가 반영되었으면 true
+    private boolean flushBatch(List<ConclusionResultOutbox> rows) {
+        Firestore firestore = FirestoreClient.getFirestore();
+        WriteBatch batch = firestore.batch();
+        for (ConclusionResultOutbox row : rows) {
+            batch.update(reference(firestore, row), fields(row));
+        }
+
+        try {
+            batch.commit().get(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            outboxRepository.deleteAllByIdInBatch(rows.stream().map(ConclusionResultOutbox::getId).toList());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            // 배치는 한 문서만 없어도 통째로 실패하므로 문서별로 다시 써서 원인이 된 행만 골라냄
+            log.warn("Conclusion 결과 배치 쓰기 실패({}건), 문서별로 재시도합니다.", rows.size(), e);
+            flushEach(firestore, rows);
+            return false;
+        }
+    }
+
+    // 문서별 쓰기를 한꺼번에 보내고 write-timeout 한 번 안에서 모두 기다림 (장애 시에도 한 주기가 write-timeout을 넘지 않음)
+    private void flushEach(Firestore firestore, List<ConclusionResultOutbox> rows) {
+        List<ApiFuture<WriteResult>> writes = rows.stream()
+                .map(row -> reference(firestore, row).update(fields(row)))
+                .toList();
+        long deadline = System.nanoTime() + writeTimeout.toNanos();
+
+        List<Long> written = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ConclusionResultOutbox row = rows.get(i);
+            try {
+                writes.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                written.add(row.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                if (isNotFound(cause)) {
+                    log.warn("Conclusion 문서가 없어 결과 반영을 건너뜁니다: {}", row.getFirestoreDocId());
+                    written.add(row.getId());
+                } else {
+                    markFailed(row, cause);
+                }
+            }
+        }
+        if (!written.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(written);
+        }
+    }
+
+    private void markFailed(ConclusionResultOutbox row, Throwable cause) {
+        Duration delay = backoff(row.getAttempts());
+        String message = String.valueOf(cause);
+        log.warn("Conclusion 결과 쓰기 실패: {} ({}회째, {} 후 재시도)", row.getFirestoreDocId(), row.getAttempts() + 1, delay);
+        outboxRepository.markFailed(
+                row.getId(),
+                LocalDateTime.now(clock).plus(delay),
+                message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message
+        );
+    }
+
+    // backoff-base × 2^attempts, 최대 backoff-max
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(attempts, 20);
+        Duration delay = backoffBase.multipliedBy(1L << exponent);
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private static DocumentReference reference(Firestore firestore, ConclusionResultOutbox row) {
+        return firestore.collection(COLLECTION_CONCLUSION).document(row.getFirestoreDocId());
+    }
+
+    // processedAt은 Clock(KST) 기준 현지 시각이므로 같은 시간대로 변환
+    private Map<String, Object> fields(ConclusionResultOutbox row) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(FIELD_RESULT, row.getResult());
+        fields.put(FIELD_REASON, row.getReason());
+        fields.put(FIELD_FINE, row.getFine());
+        fields.put(FIELD_PROCESSED_AT, Timestamp.of(Date.from(row.getProcessedAt().atZone(clock.getZone()).toInstant())));
+        return fields;
+    }
+
+    private static boolean isNotFound(Throwable cause) {
+        return cause instanceof ApiException api && api.getStatusCode().getCode() == StatusCode.Code.NOT_FOUND;
+    }
+}
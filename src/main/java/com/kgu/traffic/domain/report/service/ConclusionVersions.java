@@ -0,0 +1,56 @@
+package com.kgu.traffic.domain.report.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지역 코드별 Conclusion 변경 버전
+ *
+ * <p>문서가 추가/수정/삭제될 때마다 이전·현재 지역 코드의 버전을 올립니다. 미러 전체가 교체되면 세대(epoch)를 바꿔 모든 버전을
+ * 무효화하며, 세대는 기동 시각에서 시작하므로 재시작 전에 발급한 ETag와도 겹치지 않습니다. 목록/통계 ETag는 응답을 만들지 않고
+ * 이 값만으로 계산합니다. 통계 카운터가 처리 결과를 변경 이벤트보다 먼저 반영하거나 재집계로 값을 보정할 때도 해당 지역 버전을
+ * 올려 통계 ETag(와 그 ETag로 저장한 응답)가 바뀐 수를 따라가게 합니다.
+ *
+ * <p>버전은 인덱스·카운터 등 모든 리스너가 변경을 반영한 뒤에 올려야 새 버전으로 이전 내용이 응답되지 않으므로, 리스너로 등록하지
+ * 않고 ConclusionMirror가 리스너 호출을 마친 뒤 직접 호출합니다.
+ */
+@Component
+public class ConclusionVersions {
+
+    private final AtomicLong epoch = new AtomicLong(System.currentTimeMillis());
+    private final Map<Integer, AtomicLong> regionVersions = new ConcurrentHashMap<>();
+
+    public long epoch() {
+        return epoch.get();
+    }
+
+    public long regionVersion(int regionCode) {
+        AtomicLong version = regionVersions.get(regionCode);
+        return version != null ? version.get() : 0;
+    }
+
+    void reset() {
+        regionVersions.clear();
+        epoch.incrementAndGet();
+    }
+
+    /** 문서 변경 반영 (추가는 previous == null, 삭제는 current == null) */
+    void changed(ConclusionEntry previous, ConclusionEntry current) {
+        if (previous != null) bump(previous.regionCodes());
+        if (current != null) bump(current.regionCodes());
+    }
+
+    /** 문서 변경 없이 지역 응답이 바뀐 경우 (통계 카운터 선반영/보정) */
+    void regionsChanged(int[] regionCodes) {
+        bump(regionCodes);
+    }
+
+    private void bump(int[] regionCodes) {
+        for (int code : regionCodes) {
+            regionVersions.computeIfAbsent(code, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+}
@@ -2,9 +2,17 @@
 package com.kgu.traffic.domain.report.service;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.Timestamp;
 import com.google.cloud.firestore.*;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.firebase.cloud.FirestoreClient;
+import com.kgu.traffic.global.cache.ManagerRegionCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.ZoneId;
@@ -12,68 +20,165 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 @Service
+@RequiredArgsConstructor
 public class FirestoreService {
 
     private static final String COLLECTION_CONCLUSION = "Conclusion";
     private static final String COLLECTION_MANAGER = "Manager";
 
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     // KST 포맷터 (콘솔 표시와 동일한 형태: "2025년 8월 1일 오후 4시 31분 12초")
     private static final DateTimeFormatter KST_FMT =
             DateTimeFormatter.ofPattern("yyyy년 M월 d일 a h시 m분 s초", Locale.KOREAN)
-                    .withZone(ZoneId.of("Asia/Seoul"));
+                    .withZone(KST);
+
+    private final ManagerRegionCache managerRegionCache;
+    private final MeterRegistry meterRegistry;
+
+    // 호출마다 빌더로 등록하지 않도록 태그 조합별로 한 번만 만들어 재사용. 미러 적재·리스너처럼 요청 밖에서도 호출되고 완료 콜백은
+    // Firestore 클라이언트 스레드에서 실행되므로 엔드포인트·지역 태그는 두지 않음 (요청 단위는 http.server.requests와 report.stage에 있음)
+    private final Map<String, Timer> callTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> documentSummaries = new ConcurrentHashMap<>();
 
     /** Conclusion 단건 조회 + date를 KST 문자열로 변환해서 반환 */
-    public Map<String, Object> getConclusionByDocId(String docId) {
+    public CompletableFuture<Map<String, Object>> getConclusionByDocIdAsync(String docId) {
         Firestore fs = FirestoreClient.getFirestore();
         DocumentReference docRef = fs.collection(COLLECTION_CONCLUSION).document(docId);
-        try {
-            DocumentSnapshot document = docRef.get().get();
-            if (!document.exists()) {
-                throw new RuntimeException("Conclusion 문서가 존재하지 않음: " + docId);
-            }
-            Map<String, Object> data = document.getData();
-
-            // date가 Timestamp면 KST 문자열로 변환
-            if (data != null) {
-                Object dateObj = data.get("date");
-                if (dateObj instanceof Timestamp ts) {
-                    String kst = KST_FMT.format(ts.toDate().toInstant());
-                    data.put("date", kst);
-                }
+        return call("getConclusion", docRef.get(), "Conclusion 조회 중 오류")
+                .thenApply(document -> {
+                    if (!document.exists()) {
+                        throw new RuntimeException("Conclusion 문서가 존재하지 않음: " + docId);
+                    }
+                    return toConclusionData(document);
+                });
+    }
+
+    /** 문서 데이터를 꺼내면서 date가 Timestamp면 KST 문자열로 변환 */
+    public Map<String, Object> toConclusionData(DocumentSnapshot document) {
+        Map<String, Object> data = document.getData();
+        if (data != null) {
+            Object dateObj = data.get("date");
+            if (dateObj instanceof Timestamp ts) {
+                String kst = KST_FMT.format(ts.toDate().toInstant());
+                data.put("date", kst);
             }
-            return data;
-        } catch (InterruptedException | ExecutionException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Conclusion 조회 중 오류", e);
         }
+        return data;
+    }
+
+    /**
+     * 여러 Conclusion을 getAll 한 번으로 조회 (요청 순서대로, 없는 문서는 exists()가 false인 스냅샷)
+     */
+    public CompletableFuture<List<DocumentSnapshot>> getConclusionsByDocIdsAsync(List<String> docIds) {
+        if (docIds.isEmpty()) return CompletableFuture.completedFuture(List.of());
+        Firestore fs = FirestoreClient.getFirestore();
+        CollectionReference conclusions = fs.collection(COLLECTION_CONCLUSION);
+        DocumentReference[] refs = docIds.stream().map(conclusions::document).toArray(DocumentReference[]::new);
+        return call("getConclusions", fs.getAll(refs), "Conclusion 일괄 조회 중 오류");
     }
 
     public String getManagerRegion(String region) {
+        return managerRegionCache.get(region, key -> await(loadManagerRegionAsync(key)));
+    }
+
+    public CompletableFuture<String> getManagerRegionAsync(String region) {
+        String cached = managerRegionCache.getIfPresent(region);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+        return loadManagerRegionAsync(region).thenApply(managerRegion -> {
+            managerRegionCache.put(region, managerRegion);
+            return managerRegion;
+        });
+    }
+
+    private CompletableFuture<String> loadManagerRegionAsync(String region) {
         Firestore fs = FirestoreClient.getFirestore();
         CollectionReference managers = fs.collection(COLLECTION_MANAGER);
         ApiFuture<QuerySnapshot> query = managers.whereEqualTo("region", region).get();
-        try {
-            List<QueryDocumentSnapshot> docs = query.get().getDocuments();
-            if (!docs.isEmpty()) {
-                return docs.get(0).getString("region");
-            }
-            throw new RuntimeException("해당 관리자 region 정보 없음");
-        } catch (Exception e) {
-            throw new RuntimeException("Firestore에서 region 정보 조회 실패", e);
-        }
+        return call("getManagerRegion", query, "Firestore에서 region 정보 조회 실패")
+                .thenApply(snapshot -> {
+                    List<QueryDocumentSnapshot> docs = snapshot.getDocuments();
+                    if (!docs.isEmpty()) {
+                        return docs.get(0).getString("region");
+                    }
+                    throw new RuntimeException("해당 관리자 region 정보 없음");
+                });
     }
 
-    public List<QueryDocumentSnapshot> getAllConclusions() {
+    public CompletableFuture<List<QueryDocumentSnapshot>> getAllConclusionsAsync() {
         Firestore fs = FirestoreClient.getFirestore();
         CollectionReference conclusions = fs.collection(COLLECTION_CONCLUSION);
+        return call("getAllConclusions", conclusions.get(), "Conclusion 전체 조회 중 오류")
+                .thenApply(QuerySnapshot::getDocuments);
+    }
+
+    /**
+     * ApiFuture를 블로킹 없이 CompletableFuture로 연결. 실패는 message를 담은 RuntimeException으로 감싸며, 이후 단계는 Firestore
+     * 클라이언트 스레드에서 실행되므로 블로킹 작업을 이어 붙이지 않아야 함
+     *
+     * <p>호출마다 firestore.calls 타이머(operation, outcome)와 읽은 문서 수 firestore.documents(operation)를 기록합니다.
+     */
+    private <T> CompletableFuture<T> call(String operation, ApiFuture<T> apiFuture, String message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        ApiFutures.addCallback(apiFuture, new ApiFutureCallback<>() {
+            @Override
+            public void onFailure(Throwable t) {
+                sample.stop(callTimer(operation, "failure"));
+                future.completeExceptionally(new RuntimeException(message, t));
+            }
+
+            @Override
+            public void onSuccess(T result) {
+                sample.stop(callTimer(operation, "success"));
+                documentSummary(operation).record(documentCount(result));
+                future.complete(result);
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private Timer callTimer(String operation, String outcome) {
+        return callTimers.computeIfAbsent(operation + '/' + outcome, key -> Timer.builder("firestore.calls")
+                .description("Firestore 호출 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary documentSummary(String operation) {
+        return documentSummaries.computeIfAbsent(operation, key -> DistributionSummary.builder("firestore.documents")
+                .description("Firestore 호출 한 번에 읽은 문서 수")
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    private static int documentCount(Object result) {
+        if (result instanceof QuerySnapshot snapshot) return snapshot.size();
+        if (result instanceof DocumentSnapshot document) return document.exists() ? 1 : 0;
+        if (result instanceof List<?> documents) {
+            return (int) documents.stream()
+                    .filter(document -> !(document instanceof DocumentSnapshot snapshot) || snapshot.exists())
+                    .count();
+        }
+        return 0;
+    }
+
+    // 동기 메서드: 완료를 기다린 뒤 비동기 단계에서 발생한 예외를 그대로 다시 던짐
+    private static <T> T await(CompletableFuture<T> future) {
         try {
-            return conclusions.get().get().getDocuments();
-        } catch (InterruptedException | ExecutionException e) {
+            return future.get();
+        } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new RuntimeException("Conclusion 전체 조회 중 오류", e);
+            throw new RuntimeException("Firestore 응답 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new RuntimeException(e.getCause());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,255 @@
+package com.kgu.traffic.domain.report.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 지역 이름(경찰서명, 구 이름, Conclusion region 문자열)을 정수 지역 코드로 바꾸는 사전
+ *
+ * <p>이름은 처음 등록될 때 코드를 한 번 부여받고, 미러 적재 시점에 문서마다 지역 코드 배열을 계산해 두므로 이후 지역 필터는 정수
+ * 비교만으로 끝납니다. 공백 없이 붙여 쓴 지역(예: "수원시팔달구")은 등록된 이름으로 만든 트라이로 토큰 전체를 빈틈없이 나눌 수 있을
+ * 때만 각 조각의 코드도 함께 부여합니다. 부분 문자열 비교를 하지 않으므로 "남구"가 "강남구"에 일치하는 일은 없습니다.
+ *
+ * <p>사전 상태(코드표, 이름 목록, 트라이)는 불변 객체로 두고 새 이름이 등록될 때만 통째로 교체하므로 조회는 락 없이 동작합니다.
+ */
+@Component
+public class RegionDictionary {
+
+    public static final int NO_CODE = -1;
+
+    private static final String POLICE_STATION_SUFFIX = "경찰서";
+
+    private volatile State state = State.EMPTY;
+
+    /**
+     * 이름을 정규화 (앞뒤 공백 제거, "수원중부경찰서" → "중부구")
+     */
+    public String canonicalize(String name) {
+        String trimmed = name.trim();
+        int stem = trimmed.length() - POLICE_STATION_SUFFIX.length();
+        // 기존 규칙과 동일: 관할 이름 앞에 한 글자 이상 있을 때 경찰서명 마지막 두 글자 + 구
+        if (stem >= 3 && trimmed.endsWith(POLICE_STATION_SUFFIX) && isHangul(trimmed, 0, stem)) {
+            return trimmed.substring(stem - 2, stem) + "구";
+        }
+        return trimmed;
+    }
+
+    /** 등록된 이름의 코드, 없으면 {@link #NO_CODE} */
+    public int find(String name) {
+        if (name == null || name.isBlank()) return NO_CODE;
+        return state.codes.getOrDefault(canonicalize(name), NO_CODE);
+    }
+
+    public String nameOf(int code) {
+        return state.names[code];
+    }
+
+    /** 등록된 이름 수 (이름은 추가만 되므로 값이 바뀌었으면 사전이 바뀐 것) */
+    public int size() {
+        return state.names.length;
+    }
+
+    /**
+     * 여러 region 문자열의 토큰을 한 번에 등록 (트라이도 한 번만 다시 만듦)
+     */
+    public synchronized void registerRegions(Collection<String> regions) {
+        List<String> added = new ArrayList<>();
+        State current = state;
+        Set<String> seen = new LinkedHashSet<>();
+        for (String region : regions) {
+            for (String token : tokenize(region)) {
+                if (!current.codes.containsKey(token) && seen.add(token)) {
+                    added.add(token);
+                }
+            }
+        }
+        if (!added.isEmpty()) {
+            state = current.with(added);
+        }
+    }
+
+    /**
+     * region 문자열을 지역 코드 배열(오름차순, 중복 없음)로 변환. 처음 보는 토큰은 등록
+     */
+    public int[] encode(String region) {
+        List<String> tokens = tokenize(region);
+        if (tokens.isEmpty()) return new int[0];
+
+        State current = state;
+        for (String token : tokens) {
+            if (!current.codes.containsKey(token)) {
+                registerRegions(List.of(region));
+                current = state;
+                break;
+            }
+        }
+
+        int[] codes = new int[tokens.size() * 2];
+        int count = 0;
+        for (String token : tokens) {
+            codes[count++] = current.codes.get(token);
+            int[] pieces = current.trie.tile(token);
+            if (pieces != null) {
+                if (count + pieces.length > codes.length) {
+                    codes = Arrays.copyOf(codes, (count + pieces.length) * 2);
+                }
+                System.arraycopy(pieces, 0, codes, count, pieces.length);
+                count += pieces.length;
+            }
+        }
+        return distinctSorted(codes, count);
+    }
+
+    private List<String> tokenize(String region) {
+        if (region == null) return List.of();
+        List<String> tokens = new ArrayList<>(4);
+        int length = region.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean boundary = i == length || Character.isWhitespace(region.charAt(i));
+            if (boundary) {
+                if (start >= 0) {
+                    tokens.add(canonicalize(region.substring(start, i)));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    private static int[] distinctSorted(int[] codes, int count) {
+        Arrays.sort(codes, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || codes[unique - 1] != codes[i]) {
+                codes[unique++] = codes[i];
+            }
+        }
+        return Arrays.copyOf(codes, unique);
+    }
+
+    private static boolean isHangul(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Character.UnicodeScript.of(text.charAt(i)) != Character.UnicodeScript.HANGUL) return false;
+        }
+        return true;
+    }
+
+    private record State(Map<String, Integer> codes, String[] names, TrieNode trie) {
+
+        static final State EMPTY = new State(Map.of(), new String[0], TrieNode.build(List.of()));
+
+        State with(List<String> added) {
+            Map<String, Integer> nextCodes = new HashMap<>(codes);
+            String[] nextNames = Arrays.copyOf(names, names.length + added.size());
+            int code = names.length;
+            for (String name : added) {
+                nextCodes.put(name, code);
+                nextNames[code] = name;
+                code++;
+            }
+            return new State(Map.copyOf(nextCodes), nextNames, TrieNode.build(Arrays.asList(nextNames)));
+        }
+    }
+
+    /**
+     * 등록된 이름으로 만든 불변 트라이. 자식은 글자 순으로 정렬된 배열이라 이진 탐색으로 찾음
+     */
+    private static final class TrieNode {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+
+        private final char[] labels;
+        private final TrieNode[] children;
+        private final int code;
+
+        private TrieNode(char[] labels, TrieNode[] children, int code) {
+            this.labels = labels;
+            this.children = children;
+            this.code = code;
+        }
+
+        static TrieNode build(List<String> names) {
+            Builder root = new Builder();
+            for (int code = 0; code < names.size(); code++) {
+                Builder node = root;
+                for (char c : names.get(code).toCharArray()) {
+                    node = node.children.computeIfAbsent(c, k -> new Builder());
+                }
+                node.code = code;
+            }
+            return root.freeze();
+        }
+
+        /**
+         * 토큰 전체를 둘 이상의 등록된 이름으로 빈틈없이 나눈 결과의 코드, 나눌 수 없으면 null
+         */
+        int[] tile(String token) {
+            List<Integer> pieces = new ArrayList<>(4);
+            if (!tile(token, 0, pieces) || pieces.size() < 2) return null;
+            int[] result = new int[pieces.size()];
+            for (int i = 0; i < result.length; i++) result[i] = pieces.get(i);
+            return result;
+        }
+
+        // 긴 이름부터 시도하고 나머지를 나눌 수 없으면 되돌아감 (토큰 자체 일치는 조각으로 치지 않음)
+        private boolean tile(String token, int from, List<Integer> pieces) {
+            if (from == token.length()) return true;
+
+            int[] ends = new int[token.length() - from];
+            int[] codes = new int[ends.length];
+            int found = 0;
+            TrieNode node = this;
+            for (int i = from; i < token.length() && node != null; i++) {
+                node = node.child(token.charAt(i));
+                if (node != null && node.code >= 0 && !(from == 0 && i == token.length() - 1)) {
+                    ends[found] = i + 1;
+                    codes[found] = node.code;
+                    found++;
+                }
+            }
+            for (int k = found - 1; k >= 0; k--) {
+                pieces.add(codes[k]);
+                if (tile(token, ends[k], pieces)) return true;
+                pieces.remove(pieces.size() - 1);
+            }
+            return false;
+        }
+
+        private TrieNode child(char c) {
+            int pos = Arrays.binarySearch(labels, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        private static final class Builder {
+
+            private final TreeMap<Character, Builder> children = new TreeMap<>();
+            private int code = NO_CODE;
+
+            TrieNode freeze() {
+                if (children.isEmpty()) return new TrieNode(NO_LABELS, NO_CHILDREN, code);
+                char[] labels = new char[children.size()];
+                TrieNode[] frozen = new TrieNode[children.size()];
+                int i = 0;
+                for (Map.Entry<Character, Builder> entry : children.entrySet()) {
+                    labels[i] = entry.getKey();
+                    frozen[i] = entry.getValue().freeze();
+                    i++;
+                }
+                return new TrieNode(labels, frozen, code);
+            }
+        }
+    }
+}
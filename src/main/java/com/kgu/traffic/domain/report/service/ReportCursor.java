@@ -0,0 +1,53 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.global.exception.ErrorCode;
+import com.kgu.traffic.global.exception.TrafficException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 신고 목록 키셋 커서 (마지막으로 받은 항목의 신고 시각, ID)
+ *
+ * <p>목록은 (신고 시각, ID) 내림차순이므로 다음 페이지는 이 키보다 작은 항목부터 시작합니다. 토큰은 "시각|ID"를 URL-safe Base64로
+ * 인코딩한 값이며, 시각이 없는 항목은 시각 자리를 비워 둡니다. 구분자가 없는 이전 형식 토큰(문서 ID만 담음)도 시각 없는 커서로
+ * 받아들이며, 미러 경로에서는 시각이 없으면 ID로 문서를 찾아 시각을 보완합니다.
+ */
+public record ReportCursor(LocalDateTime reportedAt, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static ReportCursor of(ConclusionEntry entry) {
+        return new ReportCursor(entry.reportedAt(), entry.id());
+    }
+
+    /** 빈 토큰은 첫 페이지(null) */
+    public static ReportCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            String time = separator < 0 ? "" : raw.substring(0, separator);
+            String id = raw.substring(separator + 1);
+            if (id.isEmpty()) throw TrafficException.from(ErrorCode.INVALID_PAGE_TOKEN);
+            return new ReportCursor(time.isEmpty() ? null : LocalDateTime.parse(time), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw TrafficException.from(ErrorCode.INVALID_PAGE_TOKEN);
+        }
+    }
+
+    public String encode() {
+        String raw = (reportedAt != null ? reportedAt.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long idAsLong() {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw TrafficException.from(ErrorCode.INVALID_PAGE_TOKEN);
+        }
+    }
+}
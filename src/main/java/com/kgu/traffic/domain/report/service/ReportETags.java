@@ -0,0 +1,93 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.google.cloud.Timestamp;
+import com.kgu.traffic.global.cache.ManagerRegionCache;
+import com.kgu.traffic.global.jwt.AdminPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Clock;
+import java.time.YearMonth;
+
+/**
+ * 신고 조회 응답의 ETag 계산
+ *
+ * <p>응답을 만들지 않고 메모리에 있는 값(미러 상태, 지역 버전, 문서 수정 시각, 캐시된 관리 지역)만으로 ETag를 계산합니다. 필요한 값이
+ * 메모리에 없으면(미러 적재 전, 관리 지역 캐시 미적중, 미러에 없는 문서) null을 반환하며 이때는 조건부 요청 없이 평소대로 응답합니다.
+ * 서명 URL이 담긴 응답은 서명 URL 재사용 구간도 ETag에 넣어 만료된 URL이 304로 재사용되지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportETags {
+
+    // 브라우저가 저장해 두고 매번 If-None-Match로 재검증하도록 (기본값 no-store는 조건부 요청 자체를 막음)
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final ConclusionMirror conclusionMirror;
+    private final ConclusionVersions conclusionVersions;
+    private final RegionDictionary regionDictionary;
+    private final ManagerRegionCache managerRegionCache;
+    private final SignedUrlService signedUrlService;
+    private final Clock clock;
+
+    /** 관리 지역 목록 (variant로 목록 종류 구분, 예: 이번 달 목록) */
+    public String forList(String variant) {
+        int regionCode = currentRegionCode();
+        if (regionCode == RegionDictionary.NO_CODE) return null;
+        return tag(variant, regionCode, conclusionVersions.epoch(), conclusionVersions.regionVersion(regionCode),
+                signedUrlService.reuseWindow());
+    }
+
+    public String forStatistics() {
+        int regionCode = currentRegionCode();
+        if (regionCode == RegionDictionary.NO_CODE) return null;
+        // 월간 수는 달이 바뀌면 문서 변경이 없어도 달라짐
+        return tag("statistics", regionCode, conclusionVersions.epoch(), conclusionVersions.regionVersion(regionCode),
+                YearMonth.now(clock));
+    }
+
+    public String forDetail(String docId) {
+        if (!conclusionMirror.isReady()) return null;
+        return conclusionMirror.get(docId)
+                .map(entry -> {
+                    Timestamp updated = entry.document().getUpdateTime();
+                    return tag("detail", docId, updated.getSeconds(), updated.getNanos(), signedUrlService.reuseWindow());
+                })
+                .orElse(null);
+    }
+
+    /**
+     * ETag가 있으면 캐시 헤더와 함께 설정하고, If-None-Match와 같으면 304로 표시
+     *
+     * @return 304로 응답해야 하면 true (핸들러는 본문 없이 null 반환)
+     */
+    public boolean notModified(ServletWebRequest request, String etag) {
+        if (etag == null) return false;
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag);
+    }
+
+    // 미러 적재 전이거나 관리 지역이 캐시에 없으면 NO_CODE (Firestore 조회를 하지 않음)
+    private int currentRegionCode() {
+        if (!conclusionMirror.isReady()) return RegionDictionary.NO_CODE;
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof AdminPrincipal admin) || admin.region() == null) {
+            return RegionDictionary.NO_CODE;
+        }
+        String managerRegion = managerRegionCache.getIfPresent(admin.region());
+        return managerRegion != null ? regionDictionary.find(managerRegion) : RegionDictionary.NO_CODE;
+    }
+
+    private static String tag(String kind, Object... parts) {
+        StringBuilder value = new StringBuilder("\"").append(kind);
+        for (Object part : parts) {
+            value.append('-').append(part);
+        }
+        return value.append('"').toString();
+    }
+}
@@ -1,31 +1,127 @@
 package com.kgu.traffic.domain.report.service;
 
+import com.google.common.io.CountingOutputStream;
 import com.kgu.traffic.domain.auth.entity.Admin;
 import com.kgu.traffic.domain.report.entity.Report;
 import com.kgu.traffic.domain.report.repository.ReportRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ReportExcelService {
 
+    // 메모리에 유지할 최근 행 수 (나머지는 임시 파일로 내려감)
+    private static final int ROW_ACCESS_WINDOW = 100;
+
+    // 내보내기 경로 (mode 태그): 직접 다운로드 API / 비동기 내보내기 작업
+    static final String MODE_DOWNLOAD = "download";
+    static final String MODE_JOB = "job";
+
     private final ReportRepository reportRepository;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    // 태그 조합마다 한 번만 등록하고 재사용
+    private final Map<String, Timer> exportTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rowCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> byteSummaries = new ConcurrentHashMap<>();
 
     @Transactional(readOnly = true)
     public void writeApprovedReportExcel(String brand, LocalDate date, HttpServletResponse response) {
-        try (Workbook workbook = new XSSFWorkbook()) {
+        try {
+            // 응답 헤더 설정
+            String fileName = URLEncoder.encode("승인된_신고_목록.xlsx", StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + fileName);
+
+            OutputStream out = response.getOutputStream();
+            write(MODE_DOWNLOAD, brand, date, out);
+            out.flush();
+        } catch (Exception e) {
+            throw new RuntimeException("엑셀 다운로드 실패", e);
+        }
+    }
+
+    /**
+     * 승인된 신고를 DB에서 스트리밍으로 읽어 SXSSF 워크북으로 기록 (비동기 내보내기 작업용)
+     *
+     * <p>행은 ROW_ACCESS_WINDOW 단위로 임시 파일에 내려가고 읽은 엔티티는 영속성 컨텍스트에서 분리하므로, 행 수와 관계없이 힙 사용량이
+     * 일정합니다. 소요 시간(report.export), 행 수(report.export.rows), 파일 크기(report.export.bytes)를 내보내기 경로(mode)별로
+     * 기록합니다. 내보내기는 지역이 아니라 브랜드 단위이고 브랜드는 요청 값이라 값의 종류가 제한되지 않으므로 두 값 모두 태그로 두지 않습니다.
+     *
+     * @return 기록한 데이터 행 수
+     */
+    @Transactional(readOnly = true)
+    public long writeApprovedReportExcel(String brand, LocalDate date, OutputStream out) throws IOException {
+        return write(MODE_JOB, brand, date, out);
+    }
+
+    private long write(String mode, String brand, LocalDate date, OutputStream out) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        CountingOutputStream counting = new CountingOutputStream(out);
+        try {
+            long rows = writeWorkbook(brand, date, counting);
+            outcome = "success";
+            rowCounter(mode).increment(rows);
+            byteSummary(mode).record(counting.getCount());
+            return rows;
+        } finally {
+            sample.stop(exportTimer(mode, outcome));
+        }
+    }
+
+    private Timer exportTimer(String mode, String outcome) {
+        return exportTimers.computeIfAbsent(mode + '/' + outcome, key -> Timer.builder("report.export")
+                .description("엑셀 내보내기 소요 시간")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private Counter rowCounter(String mode) {
+        return rowCounters.computeIfAbsent(mode, key -> Counter.builder("report.export.rows")
+                .description("엑셀 내보내기 행 수")
+                .tag("mode", mode)
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary byteSummary(String mode) {
+        return byteSummaries.computeIfAbsent(mode, key -> DistributionSummary.builder("report.export.bytes")
+                .description("엑셀 내보내기 파일 크기")
+                .baseUnit("bytes")
+                .tag("mode", mode)
+                .register(meterRegistry));
+    }
+
+    private long writeWorkbook(String brand, LocalDate date, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try (workbook;
+             Stream<Report> reports = (date != null)
+                     ? reportRepository.streamApprovedByBrandAndDate(brand, date)
+                     : reportRepository.streamApprovedByBrand(brand)) {
             Sheet sheet = workbook.createSheet("승인된 신고 목록");
 
             // 헤더
@@ -35,35 +131,32 @@ public class ReportExcelService {
                 headerRow.createCell(i).setCellValue(headers[i]);
             }
 
-            List<Report> reports = (date != null)
-                    ? reportRepository.findApprovedByBrandAndDate(brand, date)
-                    : reportRepository.findApprovedByBrand(brand);
-
-            for (int i = 0; i < reports.size(); i++) {
-                Report report = reports.get(i);
-                Row row = sheet.createRow(i + 1);
-                row.createCell(0).setCellValue(report.getId());
-                row.createCell(1).setCellValue(report.getAddress());
-                row.createCell(2).setCellValue(report.getGps());
-                row.createCell(3).setCellValue(report.getReason());
-                row.createCell(4).setCellValue(report.getFine());
-                row.createCell(5).setCellValue(report.getReportedAt().toString());
-                Admin admin = report.getAdmin();
-                row.createCell(6).setCellValue(admin != null ? admin.getName() : "");
-                row.createCell(7).setCellValue(admin != null ? admin.getRegion() : "");
-                row.createCell(8).setCellValue(report.getBrand());
-                row.createCell(9).setCellValue(report.getApprovedAt() != null ? report.getApprovedAt().toString() : "");
+            int rowIndex = 1;
+            Iterator<Report> iterator = reports.iterator();
+            while (iterator.hasNext()) {
+                Report report = iterator.next();
+                writeRow(sheet.createRow(rowIndex++), report);
+                entityManager.detach(report);
             }
 
-            // 응답 헤더 설정
-            String fileName = URLEncoder.encode("승인된_신고_목록.xlsx", StandardCharsets.UTF_8).replaceAll("\\+", "%20");
-            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-            response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + fileName);
-
-            OutputStream out = response.getOutputStream();
             workbook.write(out);
-        } catch (Exception e) {
-            throw new RuntimeException("엑셀 다운로드 실패", e);
+            return rowIndex - 1L;
+        } finally {
+            workbook.dispose();
         }
     }
-}
\ No newline at end of file
+
+    private void writeRow(Row row, Report report) {
+        row.createCell(0).setCellValue(report.getId());
+        row.createCell(1).setCellValue(report.getAddress());
+        row.createCell(2).setCellValue(report.getGps());
+        row.createCell(3).setCellValue(report.getReason());
+        row.createCell(4).setCellValue(report.getFine());
+        row.createCell(5).setCellValue(report.getReportedAt().toString());
+        Admin admin = report.getAdmin();
+        row.createCell(6).setCellValue(admin != null ? admin.getName() : "");
+        row.createCell(7).setCellValue(admin != null ? admin.getRegion() : "");
+        row.createCell(8).setCellValue(report.getBrand());
+        row.createCell(9).setCellValue(report.getApprovedAt() != null ? report.getApprovedAt().toString() : "");
+    }
+}
@@ -0,0 +1,227 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.domain.report.dto.response.ExportJobResponse;
+import com.kgu.traffic.domain.report.entity.ExportJobStatus;
+import com.kgu.traffic.global.exception.ErrorCode;
+import com.kgu.traffic.global.exception.TrafficException;
+import com.kgu.traffic.global.jwt.AdminPrincipal;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엑셀 내보내기 비동기 작업 관리
+ *
+ * <p>내보내기를 제한된 실행기에서 로컬 임시 파일로 생성하고, 완료된 파일은 FileChannel.transferTo로 전송합니다. Range 요청을 지원하여
+ * 끊긴 다운로드를 이어 받을 수 있습니다. 완료 후 보관 기간이 지난 작업과 파일은 주기적으로 정리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportExportJobService {
+
+    private static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final ReportExcelService reportExcelService;
+    private final ThreadPoolTaskExecutor exportJobExecutor;
+
+    @Value("${export.jobs.retention:PT1H}")
+    private Duration retention;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobResponse submit(String brand, LocalDate date) {
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), currentLoginId(), brand, date);
+        jobs.put(job.id, job);
+        try {
+            exportJobExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            throw TrafficException.from(ErrorCode.EXPORT_QUEUE_FULL);
+        }
+        return job.toResponse();
+    }
+
+    public ExportJobResponse getJob(String jobId) {
+        return findOwnedJob(jobId).toResponse();
+    }
+
+    /**
+     * 완료된 파일 전송 (단일 Range 요청이면 206 부분 응답)
+     */
+    public void download(String jobId, String rangeHeader, HttpServletResponse response) {
+        ExportJob job = findOwnedJob(jobId);
+        if (job.status != ExportJobStatus.COMPLETED) {
+            throw TrafficException.from(ErrorCode.EXPORT_JOB_NOT_READY);
+        }
+
+        long size = job.fileSize;
+        ByteRange range = ByteRange.parse(rangeHeader, size);
+
+        response.setHeader("Accept-Ranges", "bytes");
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader("Content-Range", "bytes */" + size);
+            return;
+        }
+        if (range.partial()) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader("Content-Range", "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+
+        long length = range.length();
+        String fileName = URLEncoder.encode("승인된_신고_목록.xlsx", StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + fileName);
+        response.setContentLengthLong(length);
+
+        try (FileChannel channel = FileChannel.open(job.file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+            response.flushBuffer();
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우 - Range 요청으로 이어 받을 수 있음
+            log.debug("내보내기 파일 전송 중단: {}", jobId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${export.jobs.cleanup-interval:PT5M}")
+    public void cleanUpExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            boolean finished = job.status == ExportJobStatus.COMPLETED || job.status == ExportJobStatus.FAILED;
+            if (finished && job.completedAt.isBefore(threshold)) {
+                deleteQuietly(job.file);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @PreDestroy
+    public void deleteAllFiles() {
+        jobs.values().forEach(job -> deleteQuietly(job.file));
+    }
+
+    private void run(ExportJob job) {
+        job.status = ExportJobStatus.RUNNING;
+        try {
+            Path file = Files.createTempFile("report-export-", ".xlsx");
+            job.file = file;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                job.rowCount = reportExcelService.writeApprovedReportExcel(job.brand, job.date, out);
+            }
+            job.fileSize = Files.size(file);
+            job.finish(ExportJobStatus.COMPLETED);
+        } catch (Exception e) {
+            log.error("엑셀 내보내기 작업 실패: {}", job.id, e);
+            deleteQuietly(job.file);
+            job.file = null;
+            job.errorMessage = "엑셀 생성에 실패했습니다.";
+            job.finish(ExportJobStatus.FAILED);
+        }
+    }
+
+    private ExportJob findOwnedJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw TrafficException.from(ErrorCode.EXPORT_JOB_NOT_FOUND);
+        }
+        if (!job.ownerLoginId.equals(currentLoginId())) {
+            throw TrafficException.from(ErrorCode.FORBIDDEN_ACCESS);
+        }
+        return job;
+    }
+
+    private String currentLoginId() {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof AdminPrincipal admin)) {
+            throw TrafficException.from(ErrorCode.MEMBER_NOT_AUTHENTICATED);
+        }
+        return admin.loginId();
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("내보내기 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private static final class ExportJob {
+
+        private final String id;
+        private final String ownerLoginId;
+        private final String brand;
+        private final LocalDate date;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+        private volatile Path file;
+        private volatile Long rowCount;
+        private volatile long fileSize;
+        private volatile String errorMessage;
+        private volatile LocalDateTime completedAt;
+
+        private ExportJob(String id, String ownerLoginId, String brand, LocalDate date) {
+            this.id = id;
+            this.ownerLoginId = ownerLoginId;
+            this.brand = brand;
+            this.date = date;
+        }
+
+        // 완료 시각을 먼저 기록한 뒤 상태를 공개해야 정리 작업이 완료 상태와 완료 시각을 함께 봄
+        private void finish(ExportJobStatus finalStatus) {
+            completedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private ExportJobResponse toResponse() {
+            return new ExportJobResponse(
+                    id,
+                    status,
+                    brand,
+                    date,
+                    rowCount,
+                    status == ExportJobStatus.COMPLETED ? fileSize : null,
+                    createdAt,
+                    completedAt,
+                    errorMessage
+            );
+        }
+    }
+}
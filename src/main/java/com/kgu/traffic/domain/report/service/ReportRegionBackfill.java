@@ -0,0 +1,54 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.domain.report.entity.Report;
+import com.kgu.traffic.domain.report.repository.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * region 컬럼이 비어 있는 기존 Report를 주소로 채움
+ *
+ * <p>새로 저장되는 Report는 엔티티 콜백에서 채워지므로, 이 작업은 컬럼 추가 이전 행과 SQL로 직접 넣은 행만 대상으로 합니다.
+ * 페이지마다 별도 트랜잭션으로 커밋해 긴 잠금을 피하고, 한 번에 max-pages 페이지까지만 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportRegionBackfill {
+
+    private final ReportRepository reportRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${report.region-backfill.page-size:500}")
+    private int pageSize;
+
+    @Value("${report.region-backfill.max-pages:100}")
+    private int maxPages;
+
+    @Scheduled(
+            initialDelayString = "${report.region-backfill.initial-delay:PT30S}",
+            fixedDelayString = "${report.region-backfill.interval:PT5M}")
+    public void backfill() {
+        long filled = 0;
+        for (int page = 0; page < maxPages; page++) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Report> reports = reportRepository.findAllWithoutRegion(PageRequest.of(0, pageSize));
+                reports.forEach(Report::fillRegion);
+                return reports.size();
+            });
+            if (count == null || count == 0) break;
+            filled += count;
+            if (count < pageSize) break;
+        }
+        if (filled > 0) {
+            log.info("Report region 백필: {}건", filled);
+        }
+    }
+}
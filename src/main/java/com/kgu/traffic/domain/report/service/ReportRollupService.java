@@ -0,0 +1,146 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.domain.report.dto.response.ReportDailyStatisticsResponse;
+import com.kgu.traffic.domain.report.entity.ReportDailyRollup;
+import com.kgu.traffic.domain.report.entity.ReportStatus;
+import com.kgu.traffic.domain.report.repository.ReportDailyRollupRepository;
+import com.kgu.traffic.domain.report.repository.ReportRepository;
+import com.kgu.traffic.global.exception.ErrorCode;
+import com.kgu.traffic.global.exception.TrafficException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 신고 일별 집계(report_daily_rollup) 갱신 및 기간 통계 조회
+ *
+ * <p>신고일 하루치를 (지역, 브랜드, 상태) 그룹 쿼리 한 번으로 세고, 그날의 집계 행을 한 트랜잭션에서 교체합니다.
+ * 주기마다 최근 refresh-days일과 신고 생성·처리로 바뀐 날짜만 다시 계산하고, 기동 후 첫 주기에는 집계가 없는 과거 날짜를 채웁니다.
+ * 기간 통계는 Report 테이블 대신 이 집계 행만 읽습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportRollupService {
+
+    private final ReportRepository reportRepository;
+    private final ReportDailyRollupRepository reportDailyRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Value("${report.rollup.refresh-days:3}")
+    private int refreshDays;
+
+    private final Set<LocalDate> dirtyDates = ConcurrentHashMap.newKeySet();
+    private volatile boolean backfilled;
+
+    /** 해당 신고일의 집계를 다음 주기에 다시 계산 */
+    public void markDirty(LocalDateTime reportedAt) {
+        if (reportedAt != null) {
+            dirtyDates.add(reportedAt.toLocalDate());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.rollup.refresh-interval:PT1M}")
+    public void refresh() {
+        Set<LocalDate> dates = new TreeSet<>();
+        LocalDate today = LocalDate.now(clock);
+        for (int i = 0; i < refreshDays; i++) {
+            dates.add(today.minusDays(i));
+        }
+        for (LocalDate date : List.copyOf(dirtyDates)) {
+            dirtyDates.remove(date);
+            dates.add(date);
+        }
+        if (!backfilled) {
+            Set<LocalDate> rolledUp = new HashSet<>(reportDailyRollupRepository.findAllStatDates());
+            reportRepository.findAllReportedDates().stream()
+                    .filter(date -> !rolledUp.contains(date))
+                    .forEach(dates::add);
+        }
+
+        for (LocalDate date : dates) {
+            try {
+                rollUp(date);
+            } catch (Exception e) {
+                dirtyDates.add(date);
+                log.error("신고 일별 집계 실패: {}", date, e);
+            }
+        }
+        if (!backfilled) {
+            backfilled = true;
+            log.info("신고 일별 집계 초기 적재 완료: {}일", dates.size());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ReportDailyStatisticsResponse getStatistics(LocalDate from, LocalDate to, String region, String brand) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw TrafficException.from(ErrorCode.INVALID_REQUEST);
+        }
+
+        Map<RollupKey, Long> counts = new LinkedHashMap<>();
+        long[] byStatus = new long[ReportStatus.values().length];
+        long total = 0;
+        for (ReportDailyRollup rollup : reportDailyRollupRepository.findAllInRange(from, to, region, brand)) {
+            counts.merge(new RollupKey(rollup.getRegion(), rollup.getBrand(), rollup.getStatus()), rollup.getReportCount(), Long::sum);
+            if (rollup.getStatus() != null) byStatus[rollup.getStatus().ordinal()] += rollup.getReportCount();
+            total += rollup.getReportCount();
+        }
+
+        List<ReportDailyStatisticsResponse.Row> rows = counts.entrySet().stream()
+                .map(e -> new ReportDailyStatisticsResponse.Row(e.getKey().region(), e.getKey().brand(), e.getKey().status(), e.getValue()))
+                .sorted(Comparator.comparingLong(ReportDailyStatisticsResponse.Row::count).reversed())
+                .toList();
+        return new ReportDailyStatisticsResponse(
+                from,
+                to,
+                total,
+                byStatus[ReportStatus.PENDING.ordinal()],
+                byStatus[ReportStatus.APPROVED.ordinal()],
+                byStatus[ReportStatus.REJECTED.ordinal()],
+                rows
+        );
+    }
+
+    private void rollUp(LocalDate date) {
+        Map<RollupKey, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : reportRepository.countByRegionAndBrandAndStatus(date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+            RollupKey key = new RollupKey((String) row[0], (String) row[1], (ReportStatus) row[2]);
+            counts.merge(key, (Long) row[3], Long::sum);
+        }
+
+        List<ReportDailyRollup> rollups = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rollups.add(ReportDailyRollup.builder()
+                .statDate(date)
+                .region(key.region())
+                .brand(key.brand())
+                .status(key.status())
+                .reportCount(count)
+                .build()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            reportDailyRollupRepository.deleteAllByStatDate(date);
+            reportDailyRollupRepository.saveAll(rollups);
+        });
+    }
+
+    private record RollupKey(String region, String brand, ReportStatus status) {}
+}
@@ -1,97 +1,346 @@
 package com.kgu.traffic.domain.report.service;
 
-import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.DocumentSnapshot;
 import com.kgu.traffic.domain.auth.entity.Admin;
 import com.kgu.traffic.domain.auth.repository.AdminRepository;
 import com.kgu.traffic.domain.report.dto.request.ReportApproveRequest;
+import com.kgu.traffic.domain.report.dto.request.ReportBulkProcessRequest;
 import com.kgu.traffic.domain.report.dto.request.ReportCreateRequest;
+import com.kgu.traffic.domain.report.dto.response.ConclusionMirrorStatusResponse;
+import com.kgu.traffic.domain.report.dto.response.ReportBatchDetailResponse;
+import com.kgu.traffic.domain.report.dto.response.ReportBulkProcessResponse;
 import com.kgu.traffic.domain.report.dto.response.ReportDetailResponse;
 import com.kgu.traffic.domain.report.dto.response.ReportSimpleResponse;
 import com.kgu.traffic.domain.report.dto.response.ReportStatisticsResponse;
+import com.kgu.traffic.domain.report.entity.ConclusionResultOutbox;
 import com.kgu.traffic.domain.report.entity.Report;
 import com.kgu.traffic.domain.report.entity.ReportStatus;
+import com.kgu.traffic.domain.report.repository.ConclusionResultOutboxRepository;
 import com.kgu.traffic.domain.report.repository.ReportRepository;
+import com.kgu.traffic.global.cache.AdminPrincipalCache;
+import com.kgu.traffic.global.dto.response.CursorSlice;
 import com.kgu.traffic.global.exception.ErrorCode;
 import com.kgu.traffic.global.exception.TrafficException;
+import com.kgu.traffic.global.jwt.AdminPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Instant;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.kgu.traffic.domain.report.entity.ReportStatus.PENDING;
 
 @Service
 @RequiredArgsConstructor
 public class ReportService {
+    private static final String PIPELINE_LIST = "list";
+    private static final String PIPELINE_STATISTICS = "statistics";
+    private static final ReportStatisticsResponse EMPTY_STATISTICS = new ReportStatisticsResponse(0, 0, 0, 0);
+
     private final ReportRepository reportRepository;
+    private final ConclusionResultOutboxRepository conclusionResultOutboxRepository;
+    private final AdminPrincipalCache adminPrincipalCache;
     private final AdminRepository adminRepository;
     private final FirestoreService firestoreService;
+    private final ConclusionMirror conclusionMirror;
+    private final ConclusionRegionIndex conclusionRegionIndex;
+    private final ReportStatisticsCounter reportStatisticsCounter;
+    private final RegionDictionary regionDictionary;
+    private final SignedUrlService signedUrlService;
+    private final ReportStageTimer reportStageTimer;
+    private final ReportRollupService reportRollupService;
+    private final Clock clock;
+
+    @Value("${report.timeouts.manager-region:PT3S}")
+    private Duration managerRegionTimeout;
+    @Value("${report.timeouts.conclusions:PT10S}")
+    private Duration conclusionsTimeout;
 
-    protected Admin getCurrentAdmin() {
+    protected AdminPrincipal getCurrentAdmin() {
         var auth = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
-        var admin = (Admin) auth.getPrincipal();
-        return adminRepository.findByLoginId(admin.getLoginId())
+        var admin = (AdminPrincipal) auth.getPrincipal();
+        return adminPrincipalCache.findByLoginId(admin.loginId())
                 .orElseThrow(() -> TrafficException.from(ErrorCode.ADMIN_NOT_FOUND));
     }
 
-    private String normalizeRegion(String region) {
-        return region.replaceAll("^(\\p{IsHangul}+)(\\p{IsHangul}{2,3})경찰서$", "$2구");
+    // 처리자 연관관계용 엔티티 (조회 없이 프록시만 얻음)
+    private Admin currentAdminReference() {
+        return adminRepository.getReferenceById(getCurrentAdmin().id());
     }
 
-    @Transactional(readOnly = true)
-    public Page<ReportSimpleResponse> getReports(Pageable pageable) {
-        Admin admin = getCurrentAdmin();
-        String region = firestoreService.getManagerRegion(admin.getRegion());
-        String normalizedRegion = normalizeRegion(region);
+    // 미러 초기 적재 전에는 Firestore에서 직접 조회
+    private CompletableFuture<List<ConclusionEntry>> loadConclusionsAsync() {
+        if (conclusionMirror.isReady()) {
+            return CompletableFuture.completedFuture(conclusionMirror.getAll());
+        }
+        return firestoreService.getAllConclusionsAsync()
+                .thenApply(documents -> documents.stream().map(conclusionMirror::toEntry).toList());
+    }
 
-        List<QueryDocumentSnapshot> conclusions = firestoreService.getAllConclusions();
+    /*
+     * 아래 조회 메서드는 Firestore 응답을 기다리지 않고 CompletableFuture를 반환합니다. 인증 정보(SecurityContext)는 요청
+     * 스레드에서만 읽을 수 있으므로 관리자 조회는 Future를 만들기 전에 합니다. 이후 단계는 Firestore 콜백 스레드에서 이어지므로
+     * 블로킹 호출을 넣지 않습니다.
+     *
+     * 관리 지역 조회만 관리자 정보에 의존하고 Conclusion 적재는 독립적이므로, 미러 적재 전에는 Conclusion 적재를 먼저 시작해 두고
+     * 관리자(MySQL) → 관리 지역(Firestore) 조회와 동시에 진행합니다. 한쪽이 실패하면 나머지를 기다리지 않고 취소합니다.
+     */
 
-        List<ReportSimpleResponse> reportList = conclusions.stream()
-                .filter(doc -> {
-                    String docRegion = doc.getString("region");
-                    return docRegion != null && docRegion.contains(normalizedRegion);
+    // 관리자 → 관리 지역 (관리자 조회가 실패하면 함께 시작한 단계를 취소)
+    private CompletableFuture<String> managerRegionAsync(String pipeline, CompletableFuture<?>... siblings) {
+        AdminPrincipal admin;
+        try {
+            admin = reportStageTimer.time(pipeline, "admin", this::getCurrentAdmin);
+        } catch (RuntimeException e) {
+            reportStageTimer.cancel(siblings);
+            throw e;
+        }
+        return reportStageTimer.stage(pipeline, "managerRegion", managerRegionTimeout,
+                () -> firestoreService.getManagerRegionAsync(admin.region()));
+    }
+
+    private CompletableFuture<List<ConclusionEntry>> conclusionsStage(String pipeline) {
+        return reportStageTimer.stage(pipeline, "conclusions", conclusionsTimeout, this::loadConclusionsAsync);
+    }
+
+    public CompletableFuture<Page<ReportSimpleResponse>> getReportsAsync(Pageable pageable) {
+        long start = System.nanoTime();
+
+        if (conclusionMirror.isReady()) {
+            return reportStageTimer.pipeline(PIPELINE_LIST, start, managerRegionAsync(PIPELINE_LIST)
+                    .thenCompose(region -> conclusionRegionIndex
+                            .page(regionDictionary.find(region), (int) pageable.getOffset(), pageable.getPageSize())
+                            .map(indexed -> toSimpleResponses(indexed.content())
+                                    .<Page<ReportSimpleResponse>>thenApply(content ->
+                                            new PageImpl<>(content, pageable, indexed.total())))
+                            .orElseGet(() -> CompletableFuture.completedFuture(new PageImpl<>(List.of(), pageable, 0)))));
+        }
+
+        // 미러 적재 전: 문서를 읽으며 지역 토큰이 사전에 등록되므로 코드는 둘 다 끝난 뒤에 조회
+        CompletableFuture<List<ConclusionEntry>> conclusions = conclusionsStage(PIPELINE_LIST);
+        CompletableFuture<String> region = managerRegionAsync(PIPELINE_LIST, conclusions);
+
+        return reportStageTimer.pipeline(PIPELINE_LIST, start, reportStageTimer
+                .combine(region, conclusions, (managerRegion, entries) -> {
+                    int regionCode = regionDictionary.find(managerRegion);
+                    return entries.stream()
+                            .filter(entry -> entry.hasRegion(regionCode))
+                            .sorted(ConclusionEntry.LATEST_FIRST)
+                            .toList();
                 })
-                .map(doc -> {
-                    String title = doc.contains("title") ? doc.getString("title")
-                            : String.valueOf(doc.get("violation"));
-                    String reporterName = doc.contains("userId") ? doc.getString("userId") : "익명";
-                    LocalDateTime reportedAt = LocalDateTime.now(); // Conclusion 원본엔 date가 문자열이므로 여기선 현재시간 대체
-                    ReportStatus status = ReportStatus.PENDING;
-                    String id = doc.getId();
-                    return new ReportSimpleResponse(id, title, reporterName, status, reportedAt);
+                .thenCompose(matched -> {
+                    int from = Math.min((int) pageable.getOffset(), matched.size());
+                    int to = Math.min(from + pageable.getPageSize(), matched.size());
+                    return toSimpleResponses(matched.subList(from, to))
+                            .<Page<ReportSimpleResponse>>thenApply(content ->
+                                    new PageImpl<>(content, pageable, matched.size()));
+                }));
+    }
+
+    /**
+     * 키셋(신고 시각, ID) 커서 기반 목록 조회
+     *
+     * <p>미러가 준비되어 있으면 지역 파티션에서 커서 위치를 이진 탐색해 한 페이지만 잘라 옵니다. 페이지 깊이와 관계없이 비용이 같고,
+     * 새 신고가 들어와도 이미 본 항목이 다음 페이지로 밀려나지 않습니다. 미러 적재 전에는 오프셋 목록과 같이 컬렉션을 읽어 임시
+     * 인덱스를 만든 뒤 같은 방식으로 찾으므로 두 경로의 순서와 커서는 같습니다. month를 지정하면 해당 월의 신고만 반환합니다.
+     */
+    public CompletableFuture<CursorSlice<ReportSimpleResponse>> getReportsByCursorAsync(
+            String pageToken, int size, YearMonth month) {
+        long start = System.nanoTime();
+        ReportCursor cursor = ReportCursor.decode(pageToken);
+        LocalDateTime notBefore = month != null ? month.atDay(1).atStartOfDay() : null;
+        LocalDateTime before = month != null ? month.plusMonths(1).atDay(1).atStartOfDay() : null;
+
+        if (conclusionMirror.isReady()) {
+            // 시각 없는 커서(이전 형식 토큰 포함)는 미러에서 문서를 찾아 정렬 키를 보완
+            ReportCursor after = cursor != null && cursor.reportedAt() == null
+                    ? conclusionMirror.get(cursor.id()).map(ReportCursor::of).orElse(cursor)
+                    : cursor;
+            return reportStageTimer.pipeline(PIPELINE_LIST, start, managerRegionAsync(PIPELINE_LIST)
+                    .thenCompose(region -> toCursorSlice(conclusionRegionIndex
+                            // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+                            .seek(regionDictionary.find(region), after, notBefore, before, size + 1)
+                            .orElse(List.of()), size)));
+        }
+
+        // 지역 코드는 Conclusion 문서에 쓰지 않고 로컬 인덱스에만 두므로, 적재 전에는 Firestore에서 지역으로 거를 수 없음
+        CompletableFuture<List<ConclusionEntry>> conclusions = conclusionsStage(PIPELINE_LIST);
+        CompletableFuture<String> region = managerRegionAsync(PIPELINE_LIST, conclusions);
+
+        return reportStageTimer.pipeline(PIPELINE_LIST, start, reportStageTimer
+                .combine(region, conclusions, (managerRegion, entries) -> {
+                    ConclusionRegionIndex snapshot = new ConclusionRegionIndex();
+                    snapshot.onReset(entries);
+                    ReportCursor after = cursor != null && cursor.reportedAt() == null
+                            ? entries.stream().filter(entry -> entry.id().equals(cursor.id()))
+                                    .findFirst().map(ReportCursor::of).orElse(cursor)
+                            : cursor;
+                    return snapshot.seek(regionDictionary.find(managerRegion), after, notBefore, before, size + 1)
+                            .orElse(List.of());
                 })
-                .sorted((r1, r2) -> r2.reportedAt().compareTo(r1.reportedAt()))
-                .toList();
+                .thenCompose(entries -> toCursorSlice(entries, size)));
+    }
+
+    // size + 1건을 받아 한 페이지와 다음 커서로 변환
+    private CompletableFuture<CursorSlice<ReportSimpleResponse>> toCursorSlice(List<ConclusionEntry> entries, int size) {
+        boolean hasNext = entries.size() > size;
+        List<ConclusionEntry> pageEntries = hasNext ? entries.subList(0, size) : entries;
+        String nextPageToken = hasNext ? ReportCursor.of(pageEntries.get(pageEntries.size() - 1)).encode() : null;
+        return toSimpleResponses(pageEntries).thenApply(content -> new CursorSlice<>(content, nextPageToken));
+    }
+
+    /**
+     * MySQL Report 테이블 키셋 조회 (관리 지역, 신고 시각·ID 내림차순)
+     *
+     * <p>(region, reported_at) 인덱스에서 커서 위치로 바로 이동해 size + 1건만 읽습니다. 커서의 ID는 Report의 PK입니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ReportSimpleResponse> getReportRecordsByCursor(String pageToken, int size) {
+        ReportCursor cursor = ReportCursor.decode(pageToken);
+        String region = regionDictionary.canonicalize(firestoreService.getManagerRegion(getCurrentAdmin().region()));
+        Pageable limit = PageRequest.of(0, size + 1);
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), reportList.size());
-        List<ReportSimpleResponse> pageContent = (start >= reportList.size())
-                ? List.of() : reportList.subList(start, end);
+        List<Report> reports;
+        if (cursor == null) {
+            reports = reportRepository.findLatestByRegion(region, limit);
+        } else if (cursor.reportedAt() == null) {
+            reports = reportRepository.findLatestByRegionWithoutReportedAtBefore(region, cursor.idAsLong(), limit);
+        } else {
+            reports = reportRepository.findLatestByRegionBefore(region, cursor.reportedAt(), cursor.idAsLong(), limit);
+        }
 
-        return new PageImpl<>(pageContent, pageable, reportList.size());
+        boolean hasNext = reports.size() > size;
+        List<Report> page = hasNext ? reports.subList(0, size) : reports;
+        Report last = hasNext ? page.get(page.size() - 1) : null;
+        String nextPageToken = last != null
+                ? new ReportCursor(last.getReportedAt(), String.valueOf(last.getId())).encode() : null;
+
+        Map<String, String> signedUrls = signedUrlService.toSignedUrls(page.stream()
+                .map(Report::getImageUrl)
+                .filter(Objects::nonNull)
+                .toList());
+        List<ReportSimpleResponse> content = page.stream()
+                .map(report -> new ReportSimpleResponse(
+                        report.getFirestoreDocId(),
+                        report.getTitle(),
+                        report.getReporterName(),
+                        report.getStatus(),
+                        report.getReportedAt(),
+                        report.getImageUrl() != null ? signedUrls.get(report.getImageUrl()) : null))
+                .toList();
+        return new CursorSlice<>(content, nextPageToken);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * MySQL Report 테이블 기준 관리 지역 통계 (/records와 같은 지역 단위)
+     *
+     * <p>전체/이번 달/승인/반려 수를 조건부 집계 쿼리 한 번으로 구합니다. 이번 달은 KST Clock 기준입니다.
+     */
     @Transactional(readOnly = true)
-    public ReportDetailResponse getReportDetail(String docId) {
-        Map<String, Object> fs = firestoreService.getConclusionByDocId(docId);
+    public ReportStatisticsResponse getReportRecordStatistics() {
+        String region = regionDictionary.canonicalize(firestoreService.getManagerRegion(getCurrentAdmin().region()));
+        return reportRepository.countStatistics(region, YearMonth.now(clock));
+    }
+
+    // 페이지의 이미지 URL은 한 번에 서명 (대부분 미리 서명해 둔 캐시에서 읽음)
+    private CompletableFuture<List<ReportSimpleResponse>> toSimpleResponses(List<ConclusionEntry> entries) {
+        return signedUrlService.toSignedUrlsAsync(entries.stream()
+                        .map(entry -> entry.document().getString("imageUrl"))
+                        .toList())
+                .thenApply(signedUrls -> entries.stream().map(entry -> toSimpleResponse(entry, signedUrls)).toList());
+    }
 
+    private ReportSimpleResponse toSimpleResponse(ConclusionEntry entry, Map<String, String> signedUrls) {
+        var doc = entry.document();
+        String title = doc.contains("title") ? doc.getString("title")
+                : String.valueOf(doc.get("violation"));
+        String reporterName = doc.contains("userId") ? doc.getString("userId") : "익명";
+        String imageUrl = doc.getString("imageUrl");
+        return new ReportSimpleResponse(entry.id(), title, reporterName, ReportStatus.PENDING, entry.reportedAt(),
+                imageUrl != null ? signedUrls.get(imageUrl) : null);
+    }
+
+    public CompletableFuture<ReportDetailResponse> getReportDetailAsync(String docId) {
+        CompletableFuture<Map<String, Object>> data = conclusionMirror.get(docId)
+                .map(entry -> CompletableFuture.completedFuture(firestoreService.toConclusionData(entry.document())))
+                .orElseGet(() -> firestoreService.getConclusionByDocIdAsync(docId));
+
+        return data.thenCompose(fs -> signedUrlService.toSignedUrlsAsync(imageUrls(fs).toList())
+                .thenApply(signedUrls -> toDetailResponse(docId, fs, signedUrls)));
+    }
+
+    /**
+     * 신고 상세 일괄 조회
+     *
+     * <p>미러에 있는 문서는 미러에서 읽고, 나머지는 Firestore getAll 한 번으로 조회합니다. 응답은 요청 순서를 따르며 없는 문서는
+     * found=false 항목으로 반환합니다.
+     */
+    public CompletableFuture<List<ReportBatchDetailResponse>> getReportDetailsAsync(List<String> docIds) {
+        Map<String, Map<String, Object>> found = new ConcurrentHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String docId : new LinkedHashSet<>(docIds)) {
+            conclusionMirror.get(docId).ifPresentOrElse(
+                    entry -> found.put(docId, firestoreService.toConclusionData(entry.document())),
+                    () -> missing.add(docId));
+        }
+
+        return firestoreService.getConclusionsByDocIdsAsync(missing)
+                .thenCompose(documents -> {
+                    for (DocumentSnapshot document : documents) {
+                        if (document.exists()) {
+                            found.put(document.getId(), firestoreService.toConclusionData(document));
+                        }
+                    }
+                    return signedUrlService.toSignedUrlsAsync(found.values().stream()
+                            .flatMap(ReportService::imageUrls)
+                            .toList());
+                })
+                .thenApply(signedUrls -> docIds.stream()
+                        .map(docId -> found.containsKey(docId)
+                                ? ReportBatchDetailResponse.found(toDetailResponse(docId, found.get(docId), signedUrls))
+                                : ReportBatchDetailResponse.notFound(docId))
+                        .toList());
+    }
+
+    private static Stream<String> imageUrls(Map<String, Object> fs) {
+        return Stream.of(fs.get("imageUrl"), fs.get("reportImgUrl"))
+                .filter(String.class::isInstance)
+                .map(String.class::cast);
+    }
+
+    private ReportDetailResponse toDetailResponse(String docId, Map<String, Object> fs, Map<String, String> signedUrls) {
         List<String> aiConclusion = List.of();
         Object aiObj = fs.get("aiConclusion");
         if (aiObj instanceof List<?> list) {
             aiConclusion = list.stream().map(String::valueOf).toList();
         }
 
+        String imageUrl = (String) fs.getOrDefault("imageUrl", null);
+        String reportImgUrl = (String) fs.getOrDefault("reportImgUrl", null);
+
         Double confidence = null;
         Object conf = fs.get("confidence");
         if (conf instanceof Number n) confidence = n.doubleValue();
@@ -103,9 +352,9 @@ public class ReportService {
                 fs.get("date") != null ? String.valueOf(fs.get("date")) : null,
                 (String) fs.getOrDefault("detectedBrand", null),
                 (String) fs.getOrDefault("gpsInfo", null),
-                (String) fs.getOrDefault("imageUrl", null),
+                imageUrl != null ? signedUrls.get(imageUrl) : null,
                 (String) fs.getOrDefault("region", null),
-                (String) fs.getOrDefault("reportImgUrl", null),
+                reportImgUrl != null ? signedUrls.get(reportImgUrl) : null,
                 (String) fs.getOrDefault("result", null),
                 (String) fs.getOrDefault("userId", null),
                 (String) fs.getOrDefault("violation", null)
@@ -118,49 +367,143 @@ public class ReportService {
                 .orElseThrow(() -> TrafficException.from(ErrorCode.REPORT_NOT_FOUND));
 
         if (request.approve()) {
-            report.approve(request.reason(), request.fine(), getCurrentAdmin());
+            report.approve(request.reason(), request.fine(), currentAdminReference(), LocalDateTime.now(clock));
         } else {
-            report.reject(request.reason(), getCurrentAdmin());
+            report.reject(request.reason(), currentAdminReference());
         }
+
+        String result = request.approve()
+                ? ReportStatisticsCounter.RESULT_APPROVED : ReportStatisticsCounter.RESULT_REJECTED;
+        // Firestore 반영은 ConclusionResultOutboxWorker가 커밋 이후에 처리
+        conclusionResultOutboxRepository.deleteAllByFirestoreDocIdIn(List.of(docId));
+        conclusionResultOutboxRepository.save(toOutbox(report, result));
+        afterCommit(() -> {
+            reportStatisticsCounter.applyResult(docId, result);
+            reportRollupService.markDirty(report.getReportedAt());
+        });
     }
 
-    @Transactional(readOnly = true)
-    public ReportStatisticsResponse getReportStatistics() {
-        var admin = getCurrentAdmin();
-        var region = firestoreService.getManagerRegion(admin.getRegion());
-        var normalizedRegion = normalizeRegion(region);
+    /**
+     * 신고 일괄 승인/반려
+     *
+     * <p>대상 Report를 IN 쿼리 한 번으로 읽어 변경하고, 커밋 시 UPDATE를 JDBC 배치(hibernate.jdbc.batch_size)로 보냅니다. 없는
+     * 문서나 요청 안에서 중복된 문서는 해당 항목만 실패로 반환합니다.
+     */
+    @Transactional
+    public List<ReportBulkProcessResponse> processReports(List<ReportBulkProcessRequest.Item> items) {
+        Admin admin = currentAdminReference();
+        Map<String, Report> reports = reportRepository
+                .findAllByFirestoreDocIdIn(items.stream().map(ReportBulkProcessRequest.Item::docId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Report::getFirestoreDocId, Function.identity(), (first, second) -> first));
 
-        var conclusions = firestoreService.getAllConclusions();
+        Set<String> seen = new HashSet<>();
+        Map<String, String> results = new LinkedHashMap<>();
+        List<ReportBulkProcessResponse> responses = new ArrayList<>(items.size());
+        List<ConclusionResultOutbox> outbox = new ArrayList<>(items.size());
+        for (ReportBulkProcessRequest.Item item : items) {
+            Report report = reports.get(item.docId());
+            if (!seen.add(item.docId())) {
+                responses.add(ReportBulkProcessResponse.failed(item.docId(), ErrorCode.REPORT_DUPLICATED_IN_REQUEST));
+                continue;
+            }
+            if (report == null) {
+                responses.add(ReportBulkProcessResponse.failed(item.docId(), ErrorCode.REPORT_NOT_FOUND));
+                continue;
+            }
 
-        ZoneId KST = ZoneId.of("Asia/Seoul");
-        LocalDateTime now = LocalDateTime.now(KST);
+            if (item.approve()) {
+                report.approve(item.reason(), item.fine(), admin, LocalDateTime.now(clock));
+            } else {
+                report.reject(item.reason(), admin);
+            }
+            results.put(item.docId(), item.approve()
+                    ? ReportStatisticsCounter.RESULT_APPROVED : ReportStatisticsCounter.RESULT_REJECTED);
+            outbox.add(toOutbox(report, results.get(item.docId())));
+            responses.add(ReportBulkProcessResponse.processed(item.docId(), report.getStatus()));
+        }
+
+        if (!outbox.isEmpty()) {
+            conclusionResultOutboxRepository.deleteAllByFirestoreDocIdIn(results.keySet());
+            conclusionResultOutboxRepository.saveAll(outbox);
+        }
+        afterCommit(() -> {
+            results.forEach(reportStatisticsCounter::applyResult);
+            results.keySet().forEach(id -> reportRollupService.markDirty(reports.get(id).getReportedAt()));
+        });
+        return responses;
+    }
+
+    private ConclusionResultOutbox toOutbox(Report report, String result) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return ConclusionResultOutbox.builder()
+                .firestoreDocId(report.getFirestoreDocId())
+                .result(result)
+                .reason(report.getReason())
+                .fine(report.getFine())
+                .processedAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public CompletableFuture<ReportStatisticsResponse> getReportStatisticsAsync() {
+        long start = System.nanoTime();
+
+        if (conclusionMirror.isReady()) {
+            return reportStageTimer.pipeline(PIPELINE_STATISTICS, start, managerRegionAsync(PIPELINE_STATISTICS)
+                    // 카운터는 미러 적재와 변경 이벤트에서 함께 갱신되므로, 카운터가 없는 지역(사전에 없는 이름 포함)은 신고가 없는 지역
+                    .thenApply(region -> reportStatisticsCounter.get(regionDictionary.find(region), YearMonth.now(clock))
+                            .orElse(EMPTY_STATISTICS)));
+        }
+
+        CompletableFuture<List<ConclusionEntry>> conclusions = conclusionsStage(PIPELINE_STATISTICS);
+        CompletableFuture<String> region = managerRegionAsync(PIPELINE_STATISTICS, conclusions);
+
+        return reportStageTimer.pipeline(PIPELINE_STATISTICS, start, reportStageTimer
+                .combine(region, conclusions, (managerRegion, entries) ->
+                        countStatistics(entries, regionDictionary.find(managerRegion))));
+    }
+
+    private ReportStatisticsResponse countStatistics(List<ConclusionEntry> conclusions, int regionCode) {
+        LocalDateTime now = LocalDateTime.now(clock);
         LocalDateTime startOfMonth = now.withDayOfMonth(1)
                 .withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime endOfMonth = startOfMonth.plusMonths(1).minusNanos(1);
 
         long total = 0, monthly = 0, approved = 0, rejected = 0;
 
-        for (var doc : conclusions) {
-            String docRegion = doc.getString("region");
-            if (docRegion == null || !docRegion.contains(normalizedRegion)) continue;
+        for (var entry : conclusions) {
+            if (!entry.hasRegion(regionCode)) continue;
 
             total++;
 
-            LocalDateTime reportedAt = parseToLocalDateTime(doc.get("date"));
+            LocalDateTime reportedAt = entry.reportedAt();
             if (reportedAt != null &&
                     !reportedAt.isBefore(startOfMonth) &&
                     !reportedAt.isAfter(endOfMonth)) {
                 monthly++;
             }
 
-            String result = doc.getString("result");
-            if ("승인".equals(result)) approved++;
-            else if ("반려".equals(result)) rejected++;
+            String result = entry.document().getString("result");
+            if (ReportStatisticsCounter.RESULT_APPROVED.equals(result)) approved++;
+            else if (ReportStatisticsCounter.RESULT_REJECTED.equals(result)) rejected++;
         }
 
         return new ReportStatisticsResponse(total, monthly, approved, rejected);
     }
 
+    public ConclusionMirrorStatusResponse getMirrorStatus() {
+        return conclusionMirror.getStatus();
+    }
 
     @Transactional
     public void createReport(ReportCreateRequest request) {
@@ -174,42 +517,8 @@ public class ReportService {
                 .brand(request.brand())
                 .imageUrl(request.imageUrl())
                 .status(PENDING)
-                .reportedAt(LocalDateTime.now())
+                .reportedAt(LocalDateTime.now(clock))
                 .build();
         reportRepository.save(report);
     }
-
-    private LocalDateTime parseToLocalDateTime(Object dateObj) {
-        if (dateObj == null) return null;
-        try {
-            if (dateObj instanceof com.google.cloud.Timestamp ts) {
-                return ts.toSqlTimestamp().toLocalDateTime();
-            } else if (dateObj instanceof java.util.Date d) {
-                return d.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-            } else if (dateObj instanceof String s) {
-                String cleaned = s.replace("UTC+9", "").replace("KST", "").trim();
-                Locale ko = Locale.KOREAN;
-                String[] patterns = {
-                        "yyyy년 M월 d일 a h시 m분 s초",
-                        "yyyy년 M월 d일 a h시 m분",
-                        "yyyy-MM-dd HH:mm:ss",
-                        "yyyy-MM-dd'T'HH:mm:ssXXX",
-                        "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
-                };
-                for (String p : patterns) {
-                    try {
-                        return LocalDateTime.parse(cleaned, DateTimeFormatter.ofPattern(p, ko));
-                    } catch (Exception ignore) {}
-                }
-                try { // ISO-8601 with offset
-                    return java.time.OffsetDateTime.parse(s).toLocalDateTime();
-                } catch (Exception ignore) {}
-                try {
-                    long millis = Long.parseLong(s.trim());
-                    return Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()).toLocalDateTime();
-                } catch (Exception ignore) {}
-            }
-        } catch (Exception ignore) {}
-        return null;
-    }
-}
\ No newline at end of file
+}
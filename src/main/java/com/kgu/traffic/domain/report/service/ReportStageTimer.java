@@ -0,0 +1,134 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.global.exception.ErrorCode;
+import com.kgu.traffic.global.exception.TrafficException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 신고 조회 요청의 단계별 제한 시간과 소요 시간 기록
+ *
+ * <p>단계(관리자 조회, 관리 지역 조회, Conclusion 적재 등)마다 report.stage 타이머에, 요청 전체는 report.pipeline 타이머에
+ * 기록합니다. 병렬로 실행되는 단계의 합보다 report.pipeline이 짧으면 그만큼 임계 경로가 줄어든 것입니다.
+ * (/actuator/metrics/report.stage?tag=pipeline:list&tag=stage:conclusions)
+ *
+ * <p>타이머는 태그 조합마다 한 번만 등록하고 이후 요청에서는 그대로 재사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportStageTimer {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<StageKey, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<PipelineKey, Timer> pipelineTimers = new ConcurrentHashMap<>();
+
+    /** 동기 단계 실행 + 소요 시간 기록 */
+    public <T> T time(String pipeline, String stage, Supplier<T> action) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            stageTimer(pipeline, stage, success).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 비동기 단계 시작 + 제한 시간 적용 + 완료까지의 소요 시간 기록. 제한 시간을 넘기면 REPORT_LOOKUP_TIMEOUT으로 실패
+     */
+    public <T> CompletableFuture<T> stage(String pipeline, String stage, Duration timeout,
+                                          Supplier<CompletableFuture<T>> action) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future = action.get()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(t -> {
+                    Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    if (cause instanceof TimeoutException) {
+                        throw TrafficException.from(ErrorCode.REPORT_LOOKUP_TIMEOUT);
+                    }
+                    throw t instanceof CompletionException ce ? ce : new CompletionException(cause);
+                });
+        future.whenComplete((result, t) ->
+                stageTimer(pipeline, stage, t == null).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        return future;
+    }
+
+    /** 요청 전체 소요 시간 기록 */
+    public <T> CompletableFuture<T> pipeline(String pipeline, long startNanos, CompletableFuture<T> future) {
+        future.whenComplete((result, t) ->
+                pipelineTimer(pipeline, t == null).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+        return future;
+    }
+
+    /**
+     * 두 단계를 결합. thenCombine은 한쪽이 실패해도 다른 쪽이 끝날 때까지 기다리므로, 먼저 실패한 단계의 예외로 바로 실패시키고
+     * 남은 단계는 취소함
+     */
+    public <A, B, R> CompletableFuture<R> combine(CompletableFuture<A> first, CompletableFuture<B> second,
+                                                  BiFunction<A, B, R> combiner) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        first.thenCombine(second, combiner).whenComplete((value, t) -> {
+            if (t == null) result.complete(value);
+            else result.completeExceptionally(t);
+        });
+        failFast(first, second, result);
+        failFast(second, first, result);
+        return result;
+    }
+
+    private void failFast(CompletableFuture<?> stage, CompletableFuture<?> sibling, CompletableFuture<?> result) {
+        stage.whenComplete((value, t) -> {
+            if (t != null && result.completeExceptionally(t)) {
+                sibling.cancel(true);
+            }
+        });
+    }
+
+    public void cancel(CompletableFuture<?>... stages) {
+        for (CompletableFuture<?> stage : stages) {
+            if (stage != null) stage.cancel(true);
+        }
+    }
+
+    private Timer stageTimer(String pipeline, String stage, boolean success) {
+        return stageTimers.computeIfAbsent(new StageKey(pipeline, stage, success),
+                key -> Timer.builder("report.stage")
+                        .tag("pipeline", pipeline)
+                        .tag("stage", stage)
+                        .tag("outcome", outcome(success))
+                        .register(meterRegistry));
+    }
+
+    private Timer pipelineTimer(String pipeline, boolean success) {
+        return pipelineTimers.computeIfAbsent(new PipelineKey(pipeline, success),
+                key -> Timer.builder("report.pipeline")
+                        .tag("pipeline", pipeline)
+                        .tag("outcome", outcome(success))
+                        .register(meterRegistry));
+    }
+
+    private static String outcome(boolean success) {
+        return success ? "success" : "error";
+    }
+
+    private record StageKey(String pipeline, String stage, boolean success) {
+    }
+
+    private record PipelineKey(String pipeline, boolean success) {
+    }
+}
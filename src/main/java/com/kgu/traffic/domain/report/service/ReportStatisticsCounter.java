@@ -0,0 +1,208 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.domain.report.dto.response.ReportStatisticsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 지역 코드별 신고 통계(전체/월별/승인/반려) 카운터
+ *
+ * <p>문서마다 현재 반영된 기여분(지역 코드, 신고 월, 결과)을 기억해 두고 변경 이벤트나 처리 결과가 들어오면 이전 기여분을 빼고 새
+ * 기여분을 더합니다. 카운터는 LongAdder라 동시 갱신에도 경합이 없고, 통계 조회는 지역별 카운터 몇 개를 읽는 것으로 끝납니다.
+ * 주기적으로 미러 전체를 다시 세어 어긋난 값이 있으면 교체합니다. 변경 이벤트 없이 값이 바뀌는 경우(처리 결과 선반영, 재집계 보정)에는
+ * 해당 지역 버전을 직접 올려 통계 ETag가 바뀐 수를 따라가게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportStatisticsCounter implements ConclusionChangeListener {
+
+    public static final String RESULT_APPROVED = "승인";
+    public static final String RESULT_REJECTED = "반려";
+
+    private final ConclusionMirror conclusionMirror;
+    private final ConclusionVersions conclusionVersions;
+
+    // 재집계로 통째로 교체하는 동안에는 증분 반영을 막음
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile Map<String, Contribution> contributions = new ConcurrentHashMap<>();
+    private volatile Map<Integer, RegionCounters> counters = new ConcurrentHashMap<>();
+
+    public Optional<ReportStatisticsResponse> get(int regionCode, YearMonth month) {
+        RegionCounters regionCounters = counters.get(regionCode);
+        if (regionCounters == null) return Optional.empty();
+        return Optional.of(regionCounters.toResponse(month));
+    }
+
+    /** 승인/반려 처리 결과를 변경 이벤트를 기다리지 않고 반영 */
+    public void applyResult(String docId, String result) {
+        Contribution applied;
+        lock.readLock().lock();
+        try {
+            applied = contributions.computeIfPresent(docId, (id, previous) -> {
+                Contribution current = new Contribution(previous.regionCodes(), previous.month(), result);
+                move(counters, previous, current);
+                return current;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        // 카운터를 바꾼 뒤에 올려야 새 ETag로 이전 수가 응답되지 않음
+        if (applied != null) {
+            conclusionVersions.regionsChanged(applied.regionCodes());
+        }
+    }
+
+    @Override
+    public void onReset(Collection<ConclusionEntry> entries) {
+        rebuild(() -> entries);
+    }
+
+    @Override
+    public void onUpsert(ConclusionEntry previous, ConclusionEntry current) {
+        apply(current.id(), Contribution.of(current));
+    }
+
+    @Override
+    public void onRemove(ConclusionEntry previous) {
+        apply(previous.id(), null);
+    }
+
+    /** 미러 전체를 다시 세어 증분 카운터와 비교하고, 어긋났으면 교체 */
+    @Scheduled(
+            fixedDelayString = "${report.statistics.recount-interval:PT10M}",
+            initialDelayString = "${report.statistics.recount-interval:PT10M}")
+    public void recount() {
+        if (!conclusionMirror.isReady()) return;
+        rebuild(conclusionMirror::getAll);
+    }
+
+    private void apply(String docId, Contribution current) {
+        lock.readLock().lock();
+        try {
+            contributions.compute(docId, (id, previous) -> {
+                move(counters, previous, current);
+                return current;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 미러 읽기까지 쓰기 락 안에서 해야 읽은 뒤 들어온 변경이 교체로 사라지지 않음
+    private void rebuild(Supplier<Collection<ConclusionEntry>> entries) {
+        Map<String, Contribution> freshContributions = new ConcurrentHashMap<>();
+        Map<Integer, RegionCounters> freshCounters = new ConcurrentHashMap<>();
+
+        int[] drifted;
+        lock.writeLock().lock();
+        try {
+            for (ConclusionEntry entry : entries.get()) {
+                Contribution contribution = Contribution.of(entry);
+                freshContributions.put(entry.id(), contribution);
+                move(freshCounters, null, contribution);
+            }
+
+            // 첫 적재는 보정이 아님 (미러가 세대를 바꿔 모든 ETag가 이미 무효)
+            drifted = counters.isEmpty() ? new int[0] : driftedRegions(counters, freshCounters);
+            if (drifted.length > 0) {
+                log.warn("신고 통계 카운터 불일치 {}개 지역 보정", drifted.length);
+            }
+            contributions = freshContributions;
+            counters = freshCounters;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        conclusionVersions.regionsChanged(drifted);
+    }
+
+    private static void move(Map<Integer, RegionCounters> target, Contribution previous, Contribution current) {
+        if (previous != null) {
+            for (int code : previous.regionCodes()) {
+                target.computeIfAbsent(code, k -> new RegionCounters()).add(previous, -1);
+            }
+        }
+        if (current != null) {
+            for (int code : current.regionCodes()) {
+                target.computeIfAbsent(code, k -> new RegionCounters()).add(current, 1);
+            }
+        }
+    }
+
+    private static int[] driftedRegions(Map<Integer, RegionCounters> actual, Map<Integer, RegionCounters> expected) {
+        Set<Integer> codes = new HashSet<>(actual.keySet());
+        codes.addAll(expected.keySet());
+        return codes.stream()
+                .filter(code -> !snapshot(actual.get(code)).equals(snapshot(expected.get(code))))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static Map<String, Long> snapshot(RegionCounters regionCounters) {
+        Map<String, Long> values = new HashMap<>();
+        if (regionCounters == null) return values;
+        putIfNonZero(values, "total", regionCounters.total.sum());
+        putIfNonZero(values, "approved", regionCounters.approved.sum());
+        putIfNonZero(values, "rejected", regionCounters.rejected.sum());
+        regionCounters.monthly.forEach((month, adder) -> putIfNonZero(values, month.toString(), adder.sum()));
+        return values;
+    }
+
+    private static void putIfNonZero(Map<String, Long> values, String key, long value) {
+        if (value != 0) values.put(key, value);
+    }
+
+    private record Contribution(int[] regionCodes, YearMonth month, String result) {
+
+        static Contribution of(ConclusionEntry entry) {
+            return new Contribution(
+                    entry.regionCodes(),
+                    entry.reportedAt() != null ? YearMonth.from(entry.reportedAt()) : null,
+                    entry.document().getString("result")
+            );
+        }
+    }
+
+    private static final class RegionCounters {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder approved = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final Map<YearMonth, LongAdder> monthly = new ConcurrentHashMap<>();
+
+        void add(Contribution contribution, int delta) {
+            total.add(delta);
+            if (contribution.month() != null) {
+                monthly.computeIfAbsent(contribution.month(), m -> new LongAdder()).add(delta);
+            }
+            if (RESULT_APPROVED.equals(contribution.result())) approved.add(delta);
+            else if (RESULT_REJECTED.equals(contribution.result())) rejected.add(delta);
+        }
+
+        ReportStatisticsResponse toResponse(YearMonth month) {
+            LongAdder monthCount = monthly.get(month);
+            return new ReportStatisticsResponse(
+                    total.sum(),
+                    monthCount != null ? monthCount.sum() : 0,
+                    approved.sum(),
+                    rejected.sum()
+            );
+        }
+    }
+}
@@ -1,23 +1,86 @@
 package com.kgu.traffic.domain.report.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
 import java.net.URL;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Firebase Storage / GCS URL 서명
+ *
+ * <p>서명 URL은 (bucket, object, 유효 시간)별로 만료 직전(refresh-margin 전)까지 캐시합니다. 여러 건은 캐시에 없는 것만
+ * 서명 실행기에서 병렬로 서명하고, 미러 적재 시 미리 서명해 두어 목록/상세 요청 스레드에서는 대부분 캐시만 읽습니다. 적중/미적중
+ * 횟수는 /actuator/metrics/cache.gets?tag=cache:signedUrl 로 확인할 수 있습니다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SignedUrlService {
 
     private final Storage storage;
+    private final ThreadPoolTaskExecutor signedUrlExecutor;
+    private final Duration defaultTtl;
+    private final Duration refreshMargin;
+    private final Cache<SignKey, SignedUrl> cache;
+    private final Timer signTimer;
+
+    public SignedUrlService(
+            Storage storage,
+            ThreadPoolTaskExecutor signedUrlExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${signed-url.ttl:PT1H}") Duration defaultTtl,
+            @Value("${signed-url.refresh-margin:PT10M}") Duration refreshMargin,
+            @Value("${signed-url.maximum-size:10000}") long maximumSize
+    ) {
+        this.storage = storage;
+        this.signedUrlExecutor = signedUrlExecutor;
+        this.defaultTtl = defaultTtl;
+        this.refreshMargin = refreshMargin;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilRefresh())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "signedUrl");
+        // 캐시 미적중 시 실제 서명(로컬 RSA 서명 또는 IAM signBlob 호출)에 걸린 시간
+        this.signTimer = Timer.builder("signed_url.sign")
+                .description("서명 URL 생성 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서명 URL 재사용 구간 번호 (기본 유효 시간 기준)
+     *
+     * <p>응답에 담긴 서명 URL은 만든 시점부터 최소 refresh-margin 동안 유효하므로, 구간 길이를 margin으로 잡으면 같은 구간 안에서
+     * 재사용한 응답(예: 304)의 URL은 만료되지 않습니다. ETag에 넣어 구간이 바뀌면 새 응답을 받게 합니다.
+     */
+    public long reuseWindow() {
+        Duration margin = refreshMargin.compareTo(defaultTtl.dividedBy(2)) < 0 ? refreshMargin : defaultTtl.dividedBy(2);
+        return System.currentTimeMillis() / Math.max(margin.toMillis(), 1);
+    }
+
+    public String toSignedUrl(String anyUrl) {
+        return toSignedUrl(anyUrl, defaultTtl);
+    }
 
     /**
      * Firebase Storage / GCS URL → 일정 시간 유효한 V4 서명 URL로 변환
@@ -29,19 +92,110 @@ public class SignedUrlService {
         if (p == null) {
             return anyUrl;
         }
+        return cache.get(new SignKey(p.bucket(), p.object(), ttl), this::sign).url();
+    }
+
+    public Map<String, String> toSignedUrls(Collection<String> urls) {
+        return toSignedUrls(urls, defaultTtl);
+    }
+
+    /**
+     * 여러 URL을 한 번에 서명 (원본 URL → 서명 URL). 캐시에 없는 것만 서명 실행기에서 병렬로 서명하며, 서명에 실패한 URL은 null
+     */
+    public Map<String, String> toSignedUrls(Collection<String> urls, Duration ttl) {
+        return toSignedUrlsAsync(urls, ttl).join();
+    }
+
+    public CompletableFuture<Map<String, String>> toSignedUrlsAsync(Collection<String> urls) {
+        return toSignedUrlsAsync(urls, defaultTtl);
+    }
+
+    /**
+     * {@link #toSignedUrls(Collection, Duration)}의 비동기 버전. 모두 캐시에 있으면 이미 완료된 Future를 반환
+     */
+    public CompletableFuture<Map<String, String>> toSignedUrlsAsync(Collection<String> urls, Duration ttl) {
+        Map<String, String> signed = new HashMap<>();
+        Map<String, CompletableFuture<String>> pending = new HashMap<>();
+        for (String anyUrl : urls) {
+            if (anyUrl == null || anyUrl.isBlank() || signed.containsKey(anyUrl) || pending.containsKey(anyUrl)) continue;
 
-        BlobInfo blob = BlobInfo.newBuilder(p.bucket(), p.object()).build();
+            ParsedGcsPath p = parseGcsPath(anyUrl);
+            if (p == null) {
+                signed.put(anyUrl, anyUrl);
+                continue;
+            }
+            SignKey key = new SignKey(p.bucket(), p.object(), ttl);
+            SignedUrl cached = cache.getIfPresent(key);
+            if (cached != null) {
+                signed.put(anyUrl, cached.url());
+                continue;
+            }
+            CompletableFuture<String> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> cache.get(key, this::sign).url(), signedUrlExecutor);
+            } catch (TaskRejectedException e) {
+                // 대기열이 가득 차면 직접 서명
+                future = CompletableFuture.supplyAsync(() -> cache.get(key, this::sign).url(), Runnable::run);
+            }
+            pending.put(anyUrl, future.exceptionally(t -> {
+                log.warn("URL 서명 실패: {}", anyUrl, t);
+                return null;
+            }));
+        }
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(signed);
+        }
+        return CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    pending.forEach((anyUrl, future) -> signed.put(anyUrl, future.join()));
+                    return signed;
+                });
+    }
+
+    /**
+     * 기본 유효 시간으로 미리 서명해 캐시에 넣어 둠. 대기열이 가득 차면 나머지는 요청 시점에 서명
+     */
+    public void prefetch(Collection<String> urls) {
+        for (String anyUrl : urls) {
+            if (anyUrl == null || anyUrl.isBlank()) continue;
+
+            ParsedGcsPath p = parseGcsPath(anyUrl);
+            if (p == null) continue;
+            SignKey key = new SignKey(p.bucket(), p.object(), defaultTtl);
+            if (cache.getIfPresent(key) != null) continue;
+            try {
+                signedUrlExecutor.execute(() -> {
+                    try {
+                        cache.get(key, this::sign);
+                    } catch (RuntimeException e) {
+                        log.warn("URL 미리 서명 실패: {}", anyUrl, e);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                return;
+            }
+        }
+    }
+
+    private SignedUrl sign(SignKey key) {
+        BlobInfo blob = BlobInfo.newBuilder(key.bucket(), key.object()).build();
+        long minutes = Math.max(1, key.ttl().toMinutes());
 
         Map<String, String> headers = new HashMap<>();
-        URL url = storage.signUrl(
+        URL url = signTimer.record(() -> storage.signUrl(
                 blob,
-                Math.max(1, ttl.toMinutes()),
+                minutes,
                 TimeUnit.MINUTES,
                 Storage.SignUrlOption.httpMethod(HttpMethod.GET),
                 Storage.SignUrlOption.withV4Signature(),
                 Storage.SignUrlOption.withExtHeaders(headers)
-        );
-        return url.toString();
+        ));
+
+        // 짧은 유효 시간이면 절반이 지났을 때 다시 서명
+        Duration lifetime = Duration.ofMinutes(minutes);
+        Duration margin = refreshMargin.compareTo(lifetime.dividedBy(2)) < 0 ? refreshMargin : lifetime.dividedBy(2);
+        return new SignedUrl(url.toString(), Instant.now().plus(lifetime).minus(margin));
     }
 
     private ParsedGcsPath parseGcsPath(String anyUrl) {
@@ -104,4 +258,27 @@ public class SignedUrlService {
         return null;
     }
     private record ParsedGcsPath(String bucket, String object) {}
+
+    private record SignKey(String bucket, String object, Duration ttl) {}
+
+    private record SignedUrl(String url, Instant refreshAt) {}
+
+    private static final class UntilRefresh implements Expiry<SignKey, SignedUrl> {
+
+        @Override
+        public long expireAfterCreate(SignKey key, SignedUrl signed, long currentTime) {
+            long remainingMillis = signed.refreshAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(SignKey key, SignedUrl signed, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, signed, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(SignKey key, SignedUrl signed, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
\ No newline at end of file
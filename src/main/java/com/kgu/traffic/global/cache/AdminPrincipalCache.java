@@ -0,0 +1,51 @@
+package com.kgu.traffic.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kgu.traffic.domain.auth.repository.AdminRepository;
+import com.kgu.traffic.global.jwt.AdminPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증된 관리자(AdminPrincipal) 캐시
+ *
+ * <p>JwtAuthenticationFilter가 이 캐시로 principal을 만들어 두므로 요청마다 loginId로 관리자를 다시 조회하지 않습니다. 여러 요청
+ * 스레드가 같은 값을 공유하므로 분리된 Admin 엔티티 대신 불변 AdminPrincipal을 보관합니다. 존재하지 않는 loginId는 캐시하지
+ * 않으며, Admin 엔티티가 저장/수정/삭제되면 AdminCacheEvictionListener가 해당 항목을 비웁니다.
+ */
+@Component
+public class AdminPrincipalCache {
+
+    private final AdminRepository adminRepository;
+    private final Cache<String, AdminPrincipal> cache;
+
+    public AdminPrincipalCache(
+            AdminRepository adminRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.admin-principal.maximum-size:1000}") long maximumSize,
+            @Value("${cache.admin-principal.ttl:PT5M}") Duration ttl
+    ) {
+        this.adminRepository = adminRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "adminPrincipal");
+    }
+
+    public Optional<AdminPrincipal> findByLoginId(String loginId) {
+        return Optional.ofNullable(cache.get(loginId,
+                id -> adminRepository.findByLoginId(id).map(AdminPrincipal::from).orElse(null)));
+    }
+
+    public void invalidate(String loginId) {
+        if (loginId != null) cache.invalidate(loginId);
+    }
+}
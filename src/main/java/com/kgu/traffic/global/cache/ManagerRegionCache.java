@@ -0,0 +1,53 @@
+package com.kgu.traffic.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Manager 컬렉션 region 조회 캐시
+ *
+ * <p>관리자 region으로 Manager 문서를 찾는 Firestore 쿼리 결과를 TTL 동안 보관합니다. 조회 실패(예외)는 캐시하지 않습니다. 적중/미적중
+ * 횟수는 /actuator/metrics/cache.gets?tag=cache:managerRegion 으로 확인할 수 있습니다.
+ */
+@Component
+public class ManagerRegionCache {
+
+    private final Cache<String, String> cache;
+
+    public ManagerRegionCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.manager-region.maximum-size:1000}") long maximumSize,
+            @Value("${cache.manager-region.ttl:PT10M}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "managerRegion");
+    }
+
+    public String get(String region, Function<String, String> loader) {
+        return cache.get(region, loader);
+    }
+
+    public String getIfPresent(String region) {
+        return cache.getIfPresent(region);
+    }
+
+    public void put(String region, String managerRegion) {
+        cache.put(region, managerRegion);
+    }
+
+    /** Manager 문서는 email이 키라 덮어쓰기 전 region을 알 수 없으므로 전체를 비움 */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
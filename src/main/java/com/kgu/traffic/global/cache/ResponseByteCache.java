@@ -0,0 +1,137 @@
+package com.kgu.traffic.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 JSON 응답 바이트 캐시
+ *
+ * <p>(ETag, 요청 URI와 쿼리) 단위로 직렬화한 JSON과 gzip으로 압축한 바이트를 함께 보관하고, 적중하면 Jackson을 거치지 않고
+ * 서블릿 출력 스트림에 바로 씁니다. ETag에 데이터 버전이 들어 있으므로 데이터가 바뀌면 이전 항목은 더 이상 조회되지 않으며, 남은
+ * 항목은 전체 바이트 한도(maximum-bytes)와 유휴 시간(idle-ttl)에 따라 제거됩니다. 적중/미적중 횟수는
+ * /actuator/metrics/cache.gets?tag=cache:responseBytes, 사용 중인 바이트는 /actuator/metrics/cache.response.bytes 로 확인할 수
+ * 있습니다.
+ */
+@Slf4j
+@Component
+public class ResponseByteCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Body> cache;
+
+    public ResponseByteCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${cache.response-bytes.maximum-bytes:33554432}") long maximumBytes,
+            @Value("${cache.response-bytes.idle-ttl:PT10M}") Duration idleTtl
+    ) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, Body body) -> body.weight())
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responseBytes");
+        Gauge.builder("cache.response.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("응답 바이트 캐시가 보관 중인 JSON + gzip 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답이 있으면 바로 씀 (클라이언트가 gzip을 받으면 압축본)
+     *
+     * @return 응답을 썼으면 true (핸들러는 본문 없이 null 반환)
+     */
+    public boolean writeIfPresent(String etag, HttpServletRequest request, HttpServletResponse response) {
+        if (etag == null) return false;
+        Body body = cache.getIfPresent(new Key(etag, requestKey(request)));
+        if (body == null) return false;
+
+        boolean gzip = acceptsGzip(request);
+        byte[] bytes = gzip ? body.gzip() : body.json();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(bytes.length);
+        try {
+            response.getOutputStream().write(bytes);
+            response.flushBuffer();
+        } catch (IOException e) {
+            log.debug("캐시된 응답 전송 중단: {}", request.getRequestURI(), e);
+        }
+        return true;
+    }
+
+    /**
+     * 응답이 완성되면 직렬화해 캐시에 넣음 (요청 키는 요청 스레드에서 미리 계산)
+     */
+    public <T> CompletableFuture<T> cacheOnComplete(String etag, HttpServletRequest request, CompletableFuture<T> response) {
+        if (etag == null) return response;
+        Key key = new Key(etag, requestKey(request));
+        return response.thenApply(body -> {
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(body);
+                cache.put(key, new Body(json, gzip(json)));
+            } catch (JsonProcessingException e) {
+                log.warn("응답 직렬화 캐시 실패: {}", key.request(), e);
+            }
+            return body;
+        });
+    }
+
+    private static String requestKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query != null ? request.getRequestURI() + "?" + query : request.getRequestURI();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(json.length / 4, 64));
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private record Key(String etag, String request) {}
+
+    private record Body(byte[] json, byte[] gzip) {
+
+        int weight() {
+            return json.length + gzip.length;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.kgu.traffic.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 내부 작업용 Executor 설정
+ *
+ * <p>threads.virtual.enabled=true이면 풀의 작업 스레드를 가상 스레드로 만듭니다. 동시 실행 수와 대기열 제한은 그대로 유지됩니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 엑셀 내보내기 작업 실행기
+     *
+     * <p>동시 실행 수와 대기열 크기를 제한하여 대용량 내보내기가 API 처리용 스레드와 DB 커넥션을 고갈시키지 않도록 합니다. 대기열이 가득
+     * 차면 TaskRejectedException이 발생합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor exportJobExecutor(
+            @Value("${export.jobs.concurrency:2}") int concurrency,
+            @Value("${export.jobs.queue-capacity:10}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        setThreadFactory(executor, "export-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 이미지 URL 서명 실행기
+     *
+     * <p>V4 서명은 요청당 여러 건이 몰리면 CPU를 많이 쓰므로 동시 서명 수를 제한합니다. 대기열이 가득 차면
+     * TaskRejectedException이 발생하며, 일괄 서명은 호출한 스레드에서 직접 서명하고 미리 서명은 건너뜁니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor signedUrlExecutor(
+            @Value("${signed-url.concurrency:4}") int concurrency,
+            @Value("${signed-url.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        setThreadFactory(executor, "signed-url-");
+        return executor;
+    }
+
+    private void setThreadFactory(ThreadPoolTaskExecutor executor, String namePrefix) {
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(namePrefix, 1).factory());
+        } else {
+            executor.setThreadNamePrefix(namePrefix);
+        }
+    }
+}
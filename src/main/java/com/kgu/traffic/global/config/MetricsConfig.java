@@ -0,0 +1,38 @@
+package com.kgu.traffic.global.config;
+
+import com.kgu.traffic.global.jwt.JwtAuthenticationFilter;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * 요청 지표(http.server.requests) 태그 설정
+ *
+ * <p>기본 태그(method, uri 템플릿, status, outcome)에 인증된 관리자의 관할 지역을 region 태그로 더합니다. 지역은 관리자 계정에
+ * 등록된 경찰서 단위라 태그 값의 종류가 제한되며, 인증되지 않은 요청은 none으로 묶입니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String REGION_TAG = "region";
+    private static final String NO_REGION = "none";
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(region(context));
+            }
+        };
+    }
+
+    private static KeyValue region(ServerRequestObservationContext context) {
+        Object region = context.getCarrier().getAttribute(JwtAuthenticationFilter.REGION_ATTRIBUTE);
+        return KeyValue.of(REGION_TAG, region != null ? region.toString() : NO_REGION);
+    }
+}
@@ -1,9 +1,11 @@
 package com.kgu.traffic.global.config;
 
-import com.kgu.traffic.domain.auth.repository.AdminRepository;
+import com.kgu.traffic.global.cache.AdminPrincipalCache;
 import com.kgu.traffic.global.jwt.JwtAuthenticationFilter;
 import com.kgu.traffic.global.jwt.JwtProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -13,6 +15,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -24,8 +28,25 @@ import java.util.List;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    /** 인증 없이 접근 가능한 경로 (JwtAuthenticationFilter도 이 경로는 건너뜀) */
+    public static final String[] PERMIT_ALL_PATTERNS = {
+            "/api/auth/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/v3/api-docs/**",
+            "/swagger-resources/**",
+            "/webjars/**",
+            // 관리 포트(management.server.port)로만 노출
+            "/actuator/health",
+            "/actuator/prometheus"
+    };
+
+    // 토큰 인증 결과를 요청 속성에 보관 (세션 없이 ASYNC 디스패치까지 같은 인증을 유지)
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
     private final JwtProvider jwtProvider;
-    private final AdminRepository adminRepository;
+    private final AdminPrincipalCache adminPrincipalCache;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -34,7 +55,17 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtProvider, adminRepository);
+        return new JwtAuthenticationFilter(jwtProvider, adminPrincipalCache, securityContextRepository, meterRegistry);
+    }
+
+    // 보안 필터 체인 안에서만 실행. 서블릿 필터로도 등록되면 체인보다 먼저 한 번 실행되고(OncePerRequestFilter) 체인 안에서는
+    // 건너뛰어, SecurityContextHolderFilter가 불러온 빈 컨텍스트로 인가됨
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     @Bean
@@ -60,15 +91,9 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context.securityContextRepository(securityContextRepository))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/api/auth/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/v3/api-docs/**",
-                                "/swagger-resources/**",
-                                "/webjars/**"
-                        ).permitAll()
+                        .requestMatchers(PERMIT_ALL_PATTERNS).permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex
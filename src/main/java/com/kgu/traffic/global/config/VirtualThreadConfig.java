@@ -0,0 +1,29 @@
+package com.kgu.traffic.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행 모드 (threads.virtual.enabled=true)
+ *
+ * <p>Tomcat 요청 처리를 요청당 가상 스레드로 실행합니다. 신고 목록·상세·통계는 비동기 응답이라 Firestore 응답을 기다리는 동안
+ * 요청 스레드를 점유하지 않으므로, 이 설정이 효과를 보는 곳은 남은 동기 경로(승인·반려·기록 조회의 JDBC 호출, 동기
+ * FirestoreService 메서드, 서명 URL 발급 대기)입니다. 이 경로들이 블로킹되는 동안 캐리어 스레드를 반납하므로 처리량이 Tomcat
+ * 스레드 풀 크기가 아니라 CPU와 DB 커넥션 수에 따라 정해집니다. 내부 실행기(AsyncConfig)도 같은 설정으로 가상 스레드를 사용합니다.
+ *
+ * <p>기본값은 꺼져 있습니다. 플랫폼 스레드 풀 대비 효과는 아직 측정하지 않았으므로 켜기 전에 loadtest/report-api.js로 두 모드를
+ * 비교해야 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
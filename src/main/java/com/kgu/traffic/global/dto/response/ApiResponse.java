@@ -59,6 +59,13 @@ public class ApiResponse<T> {
         this.results = slice.getContent();
     }
 
+    // 커서 기반 Slice 생성자
+    public ApiResponse(CursorSlice<T> slice) {
+        this.status = new Status(ErrorCode.REQUEST_OK);
+        this.metadata = new Metadata(slice.content().size(), slice.hasNext(), slice.nextCursor());
+        this.results = slice.content();
+    }
+
     // 정상 응답 코드 생성자
     public ApiResponse(SuccessCode successCode) {
         this.status = new Status(successCode);
@@ -84,6 +91,9 @@ public class ApiResponse<T> {
         @JsonInclude(JsonInclude.Include.NON_NULL)
         private Boolean hasNext;
 
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String nextCursor;
+
         // 일반 리스트/단일 결과용 메타데이터 생성자
         public Metadata(int resultCount) {
             this.resultCount = resultCount;
@@ -95,6 +105,13 @@ public class ApiResponse<T> {
             this.pageable = pageable;
             this.hasNext = hasNext;
         }
+
+        // 커서 기반 Slice용 메타데이터 생성자
+        public Metadata(int resultCount, boolean hasNext, String nextCursor) {
+            this.resultCount = resultCount;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+        }
     }
 
     @Getter
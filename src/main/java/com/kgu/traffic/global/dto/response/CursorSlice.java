@@ -0,0 +1,15 @@
+package com.kgu.traffic.global.dto.response;
+
+import java.util.List;
+
+/**
+ * 불투명 커서로 다음 페이지를 이어 조회하는 Slice (nextCursor가 null이면 마지막 페이지)
+ */
+public record CursorSlice<T>(
+        List<T> content,
+        String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -59,6 +59,12 @@ public enum ErrorCode {
 
     //report
     REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "레포트를 찾을 수 없습니다"),
+    REPORT_DUPLICATED_IN_REQUEST(HttpStatus.BAD_REQUEST, "같은 신고가 요청에 중복되었습니다."),
+    INVALID_PAGE_TOKEN(HttpStatus.BAD_REQUEST, "올바르지 않은 페이지 토큰입니다."),
+    EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "내보내기 작업을 찾을 수 없습니다."),
+    EXPORT_JOB_NOT_READY(HttpStatus.CONFLICT, "내보내기 파일이 아직 준비되지 않았습니다."),
+    EXPORT_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "대기 중인 내보내기 작업이 많습니다. 잠시 후 다시 시도해 주세요."),
+    REPORT_LOOKUP_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "신고 데이터 조회 시간이 초과되었습니다."),
 
     //ADMIN
     ADMIN_NOT_FOUND(HttpStatus.NOT_FOUND, "어드민을 찾을 수 없습니다"),
@@ -0,0 +1,16 @@
+package com.kgu.traffic.global.jwt;
+
+import com.kgu.traffic.domain.auth.entity.Admin;
+
+/**
+ * 인증된 관리자 정보 (SecurityContext의 principal)
+ *
+ * <p>캐시와 요청 스레드가 공유하므로 JPA 엔티티 대신 요청 처리에 필요한 값만 담은 불변 값으로 둡니다. 엔티티가 필요하면 id로
+ * 프록시를 얻습니다(AdminRepository.getReferenceById).
+ */
+public record AdminPrincipal(Long id, String loginId, String region) {
+
+    public static AdminPrincipal from(Admin admin) {
+        return new AdminPrincipal(admin.getId(), admin.getLoginId(), admin.getRegion());
+    }
+}
@@ -1,44 +1,101 @@
 package com.kgu.traffic.global.jwt;
 
-import com.kgu.traffic.domain.auth.entity.Admin;
-import com.kgu.traffic.domain.auth.repository.AdminRepository;
+import com.kgu.traffic.global.cache.AdminPrincipalCache;
+import com.kgu.traffic.global.config.SecurityConfig;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.*;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
-@RequiredArgsConstructor
-public class JwtAuthenticationFilter extends GenericFilter {
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    /** 인증된 관리자의 region (요청 지표의 region 태그로 사용, 보안 컨텍스트가 비워진 뒤에도 남음) */
+    public static final String REGION_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".region";
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
 
     private final JwtProvider jwtProvider;
-    private final AdminRepository adminRepository;
+    private final AdminPrincipalCache adminPrincipalCache;
+    private final SecurityContextRepository securityContextRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 결과별 검증 타이머 (요청마다 빌더로 등록하지 않도록 생성 시 한 번만 등록)
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, AdminPrincipalCache adminPrincipalCache,
+                                   SecurityContextRepository securityContextRepository, MeterRegistry meterRegistry) {
+        this.jwtProvider = jwtProvider;
+        this.adminPrincipalCache = adminPrincipalCache;
+        this.securityContextRepository = securityContextRepository;
+        this.meterRegistry = meterRegistry;
+        this.validTimer = verificationTimer(meterRegistry, "valid");
+        this.invalidTimer = verificationTimer(meterRegistry, "invalid");
+    }
 
     @Override
-    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws IOException, ServletException {
-        HttpServletRequest request = (HttpServletRequest) req;
-
         String token = resolveToken(request);
-        if (token != null && jwtProvider.validateToken(token)) {
-            String loginId = jwtProvider.getLoginId(token);
-            Admin admin = adminRepository.findByLoginId(loginId).orElse(null);
+        String loginId = token != null ? verify(token) : null;
+        if (loginId != null) {
+            AdminPrincipal admin = adminPrincipalCache.findByLoginId(loginId).orElse(null);
             if (admin != null) {
+                if (admin.region() != null) {
+                    request.setAttribute(REGION_ATTRIBUTE, admin.region());
+                }
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         admin, null, null);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                // CompletableFuture를 반환하는 API는 ASYNC 디스패치에서 다시 인가되는데 이 필터는 그때 실행되지 않으므로,
+                // SecurityContextHolderFilter가 다시 읽을 수 있도록 요청 속성에 저장
+                securityContextRepository.saveContext(context, request, response);
             }
         }
-        chain.doFilter(req, res);
+        chain.doFilter(request, response);
+    }
+
+    // 검증 시간(캐시 적중 포함)을 결과별로 기록
+    private String verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String loginId = jwtProvider.verify(token).map(Claims::getSubject).orElse(null);
+        sample.stop(loginId != null ? validTimer : invalidTimer);
+        return loginId;
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt.verification")
+                .description("JWT 검증 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // permitAll 경로는 토큰을 검증할 필요가 없음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return Arrays.stream(SecurityConfig.PERMIT_ALL_PATTERNS)
+                .anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
     }
 
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         return (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) ? bearer.substring(7) : null;
     }
-}
\ No newline at end of file
+}
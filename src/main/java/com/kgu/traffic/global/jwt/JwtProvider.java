@@ -1,28 +1,51 @@
 package com.kgu.traffic.global.jwt;
 
-import com.kgu.traffic.domain.auth.entity.Admin;
-import com.kgu.traffic.domain.auth.repository.AdminRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.kgu.traffic.global.exception.ErrorCode;
 import com.kgu.traffic.global.exception.TrafficException;
 import io.jsonwebtoken.*;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.io.Decoders;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private static final long EXPIRATION = 1000L * 60 * 60 * 24;
 
-    private final AdminRepository adminRepository;
+    // jwt.secret은 Base64 문자열이므로 기동 시 한 번만 디코딩해 키와 파서를 만들어 둠 (JwtParser는 스레드 안전)
+    private final SecretKey signingKey;
+    private final JwtParser parser;
 
-    private static final long EXPIRATION = 1000L * 60 * 60 * 24;
+    // 최근 검증한 토큰의 Claims (키: 토큰 SHA-256, 만료: 토큰 exp까지)
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtProvider(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize
+    ) {
+        this.signingKey = new SecretKeySpec(
+                Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
 
     public String createToken(String loginId) {
         Claims claims = Jwts.claims().setSubject(loginId);
@@ -32,35 +55,74 @@ public class JwtProvider {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + EXPIRATION))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        String loginId = getLoginId(token);
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하고 Claims를 반환 (유효하지 않으면 empty)
+     *
+     * <p>최근 검증에 성공한 토큰은 만료 전까지 캐시에서 바로 반환합니다.
+     */
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return Optional.of(cached);
+        }
 
-        Admin admin = adminRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new TrafficException(ErrorCode.ADMIN_NOT_FOUND));
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(key, claims);
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 
-        return new UsernamePasswordAuthenticationToken(loginId, "", null);
+    public Authentication getAuthentication(String token) {
+        return new UsernamePasswordAuthenticationToken(getLoginId(token), "", null);
     }
 
     public String getLoginId(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verify(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new TrafficException(ErrorCode.INVALID_AUTH_TOKEN));
     }
 
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    private static String hash(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
-}
\ No newline at end of file
+}
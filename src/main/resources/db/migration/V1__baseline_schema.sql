@@ -0,0 +1,49 @@
+-- 기존에 ddl-auto로 만들어진 스키마를 그대로 옮긴 기준 버전 (이미 있는 DB에서는 아무것도 바꾸지 않음)
+CREATE TABLE IF NOT EXISTS admin
+(
+    id        BIGINT NOT NULL AUTO_INCREMENT,
+    login_id  VARCHAR(255),
+    password  VARCHAR(255),
+    name      VARCHAR(255),
+    region    VARCHAR(255),
+    email     VARCHAR(255),
+    classname VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS report
+(
+    id               BIGINT NOT NULL AUTO_INCREMENT,
+    title            VARCHAR(255),
+    description      VARCHAR(255),
+    reporter_name    VARCHAR(255),
+    target_name      VARCHAR(255),
+    status           ENUM ('PENDING', 'APPROVED', 'REJECTED'),
+    reported_at      DATETIME(6),
+    address          VARCHAR(255),
+    gps              VARCHAR(255),
+    reason           VARCHAR(255),
+    fine             INTEGER,
+    brand            VARCHAR(255),
+    approved_at      DATETIME(6),
+    image_url        VARCHAR(255),
+    firestore_doc_id VARCHAR(255),
+    admin_id         BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_report_admin FOREIGN KEY (admin_id) REFERENCES admin (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS conclusion_result_outbox
+(
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    firestore_doc_id VARCHAR(255) NOT NULL,
+    result           VARCHAR(255) NOT NULL,
+    reason           VARCHAR(255),
+    fine             INTEGER,
+    processed_at     DATETIME(6)  NOT NULL,
+    attempts         INTEGER      NOT NULL,
+    next_attempt_at  DATETIME(6)  NOT NULL,
+    last_error       VARCHAR(500),
+    PRIMARY KEY (id),
+    INDEX idx_conclusion_result_outbox_next_attempt (next_attempt_at, id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- 승인 내역 내보내기: status, brand 일치 + approved_at 범위
+CREATE INDEX idx_report_status_brand_approved_at ON report (status, brand, approved_at);
+
+-- 이번 달 신고 수 등 reported_at 범위 조회
+CREATE INDEX idx_report_reported_at ON report (reported_at);
+
+-- Firestore 문서당 Report는 하나 (중복 행이 있으면 먼저 정리해야 적용됨)
+CREATE UNIQUE INDEX uk_report_firestore_doc_id ON report (firestore_doc_id);
@@ -0,0 +1,12 @@
+-- 신고일·지역·브랜드·상태별 신고 수 (ReportRollupService가 날짜 단위로 교체)
+CREATE TABLE report_daily_rollup
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    stat_date    DATE         NOT NULL,
+    region       VARCHAR(255) NOT NULL,
+    brand        VARCHAR(255),
+    status       ENUM ('PENDING', 'APPROVED', 'REJECTED'),
+    report_count BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_report_daily_rollup UNIQUE (stat_date, region, brand, status)
+) ENGINE = InnoDB;
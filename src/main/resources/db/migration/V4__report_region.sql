@@ -0,0 +1,4 @@
+-- address에서 뽑은 지역. 기존 행은 애플리케이션(ReportRegionBackfill)이 채움
+ALTER TABLE report ADD COLUMN region VARCHAR(255);
+
+CREATE INDEX idx_report_region_reported_at ON report (region, reported_at);
@@ -0,0 +1,110 @@
+package com.kgu.traffic.domain.report.controller;
+
+import com.kgu.traffic.domain.report.dto.response.ReportStatisticsResponse;
+import com.kgu.traffic.domain.report.service.ReportETags;
+import com.kgu.traffic.domain.report.service.ReportRollupService;
+import com.kgu.traffic.domain.report.service.ReportService;
+import com.kgu.traffic.global.cache.AdminPrincipalCache;
+import com.kgu.traffic.global.cache.ResponseByteCache;
+import com.kgu.traffic.global.config.SecurityConfig;
+import com.kgu.traffic.global.jwt.AdminPrincipal;
+import com.kgu.traffic.global.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CompletableFuture를 반환하는 조회 API가 ASYNC 디스패치에서도 인증을 유지하는지 확인
+ */
+@WebMvcTest(ReportController.class)
+@Import({SecurityConfig.class, ReportControllerAsyncSecurityTest.TestBeans.class})
+class ReportControllerAsyncSecurityTest {
+
+    private static final String TOKEN = "token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JwtProvider jwtProvider;
+    @MockBean
+    private AdminPrincipalCache adminPrincipalCache;
+    @MockBean
+    private ReportService reportService;
+    @MockBean
+    private ReportETags reportETags;
+    @MockBean
+    private ResponseByteCache responseByteCache;
+    @MockBean
+    private ReportRollupService reportRollupService;
+
+    @BeforeEach
+    void setUp() {
+        Claims claims = mock(Claims.class);
+        given(claims.getSubject()).willReturn("admin");
+        given(jwtProvider.verify(TOKEN)).willReturn(Optional.of(claims));
+        given(adminPrincipalCache.findByLoginId("admin"))
+                .willReturn(Optional.of(new AdminPrincipal(1L, "admin", "수원중부경찰서")));
+        given(responseByteCache.cacheOnComplete(any(), any(), any()))
+                .willAnswer(invocation -> invocation.getArgument(2));
+        given(reportService.getReportStatisticsAsync())
+                .willReturn(CompletableFuture.completedFuture(new ReportStatisticsResponse(3, 1, 1, 1)));
+    }
+
+    @Test
+    void 인증된_비동기_조회는_ASYNC_디스패치에서도_200으로_응답한다() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reports/statistics")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].totalCount").value(3));
+    }
+
+    @Test
+    void 토큰이_없으면_401로_응답한다() throws Exception {
+        mockMvc.perform(get("/api/reports/statistics"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @TestConfiguration
+    static class TestBeans {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        Clock clock() {
+            return Clock.system(ZoneId.of("Asia/Seoul"));
+        }
+    }
+}
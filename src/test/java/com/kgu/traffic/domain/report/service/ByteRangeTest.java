@@ -0,0 +1,57 @@
+package com.kgu.traffic.domain.report.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeTest {
+
+    private static final long SIZE = 100;
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "bytes=-", "bytes=0-10,20-30", "items=0-10", "bytes=a-b", "bytes=1234567890123456789-"})
+    void 없거나_지원하지_않는_형식이면_전체를_보낸다(String header) {
+        ByteRange range = ByteRange.parse(header, SIZE);
+
+        assertThat(range).isEqualTo(new ByteRange(0, 99, false));
+        assertThat(range.length()).isEqualTo(SIZE);
+    }
+
+    @Test
+    void 시작과_끝이_있으면_그_구간을_보낸다() {
+        assertThat(ByteRange.parse("bytes=10-20", SIZE)).isEqualTo(new ByteRange(10, 20, true));
+        assertThat(ByteRange.parse(" bytes=10-20 ", SIZE).length()).isEqualTo(11);
+    }
+
+    @Test
+    void 끝이_없으면_파일_끝까지_보낸다() {
+        assertThat(ByteRange.parse("bytes=40-", SIZE)).isEqualTo(new ByteRange(40, 99, true));
+    }
+
+    @Test
+    void 끝이_파일_크기를_넘으면_파일_끝에서_자른다() {
+        assertThat(ByteRange.parse("bytes=90-500", SIZE)).isEqualTo(new ByteRange(90, 99, true));
+    }
+
+    @Test
+    void 접미사_범위는_마지막_N바이트를_보낸다() {
+        assertThat(ByteRange.parse("bytes=-30", SIZE)).isEqualTo(new ByteRange(70, 99, true));
+        assertThat(ByteRange.parse("bytes=-500", SIZE)).isEqualTo(new ByteRange(0, 99, true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bytes=100-", "bytes=150-200", "bytes=30-20", "bytes=-0"})
+    void 파일_밖의_범위는_만족할_수_없다(String header) {
+        assertThat(ByteRange.parse(header, SIZE)).isSameAs(ByteRange.UNSATISFIABLE);
+    }
+
+    @Test
+    void 빈_파일은_범위를_만족할_수_없다() {
+        assertThat(ByteRange.parse("bytes=0-", 0)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse(null, 0).length()).isZero();
+    }
+}
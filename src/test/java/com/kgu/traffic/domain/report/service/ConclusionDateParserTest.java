@@ -0,0 +1,91 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.google.cloud.Timestamp;
+import com.kgu.traffic.domain.report.service.ConclusionDateParser.DateFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConclusionDateParserTest {
+
+    private final ConclusionDateParser parser = new ConclusionDateParser();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2025년 5월 3일 오후 3시 5분 2초 UTC+9 | KOREAN_SECONDS",
+            "2025년 5월 3일 오후 3시 5분 2초      | KOREAN_SECONDS",
+            "2025년 5월 3일 오전 9시 5분          | KOREAN_MINUTES",
+            "2025-05-03 15:05:02                  | LOCAL_DATE_TIME",
+            "2025-05-03T15:05:02+09:00            | ISO",
+            "2025-05-03T15:05:02.123Z             | ISO",
+            "1746252302000                        | EPOCH_MILLIS",
+            "-1000                                | EPOCH_MILLIS"
+    })
+    void 글자_모양으로_형식을_판별한다(String text, DateFormat expected) {
+        assertThat(DateFormat.detect(text)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"hello", "2025/05/03", "12:30", "1234567890123456789", "-", "2025-05-03"})
+    void 알_수_없는_모양은_판별하지_않는다(String text) {
+        assertThat(DateFormat.detect(text)).isNull();
+    }
+
+    @Test
+    void 한글_형식을_파싱한다() {
+        assertThat(parser.parse("2025년 5월 3일 오후 3시 5분 2초 UTC+9"))
+                .isEqualTo(LocalDateTime.of(2025, 5, 3, 15, 5, 2));
+        assertThat(parser.parse("2025년 5월 3일 오전 9시 5분 KST"))
+                .isEqualTo(LocalDateTime.of(2025, 5, 3, 9, 5));
+    }
+
+    @Test
+    void 숫자_형식을_파싱한다() {
+        assertThat(parser.parse(" 2025-05-03 15:05:02 ")).isEqualTo(LocalDateTime.of(2025, 5, 3, 15, 5, 2));
+        // 오프셋은 버리고 표기된 시각 그대로 사용
+        assertThat(parser.parse("2025-05-03T15:05:02+09:00")).isEqualTo(LocalDateTime.of(2025, 5, 3, 15, 5, 2));
+        assertThat(parser.parse("2025-05-03T15:05:02.123Z"))
+                .isEqualTo(LocalDateTime.of(2025, 5, 3, 15, 5, 2, 123_000_000));
+        assertThat(parser.parse("1746252302000"))
+                .isEqualTo(Instant.ofEpochMilli(1746252302000L).atZone(ZoneId.systemDefault()).toLocalDateTime());
+    }
+
+    @Test
+    void Timestamp와_Date는_그대로_변환한다() {
+        LocalDateTime dateTime = LocalDateTime.of(2025, 5, 3, 15, 5, 2);
+        Date date = Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+
+        assertThat(parser.parse(Timestamp.of(date))).isEqualTo(dateTime);
+        assertThat(parser.parse(date)).isEqualTo(dateTime);
+    }
+
+    @Test
+    void 모양은_맞지만_값이_잘못되면_null() {
+        assertThat(parser.parse("2025-13-03 15:05:02")).isNull();
+        assertThat(parser.parse("2025년 5월 3일 오후 13시 5분")).isNull();
+    }
+
+    @Test
+    void 비어_있거나_지원하지_않는_값은_null() {
+        assertThat(parser.parse(null)).isNull();
+        assertThat(parser.parse("   ")).isNull();
+        assertThat(parser.parse("hello")).isNull();
+        assertThat(parser.parse(42L)).isNull();
+    }
+
+    @Test
+    void 출처별로_기억한_형식이_맞지_않으면_다시_판별한다() {
+        assertThat(parser.parse("Conclusion", "2025-05-03 15:05:02")).isEqualTo(LocalDateTime.of(2025, 5, 3, 15, 5, 2));
+        assertThat(parser.parse("Conclusion", "2025년 5월 3일 오후 3시 5분"))
+                .isEqualTo(LocalDateTime.of(2025, 5, 3, 15, 5));
+        assertThat(parser.parse("Conclusion", "2025-05-04 10:00:00")).isEqualTo(LocalDateTime.of(2025, 5, 4, 10, 0));
+    }
+}
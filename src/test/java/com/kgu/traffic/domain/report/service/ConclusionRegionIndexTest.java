@@ -0,0 +1,100 @@
+package com.kgu.traffic.domain.report.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConclusionRegionIndexTest {
+
+    private static final int REGION = 1;
+
+    private final ConclusionRegionIndex index = new ConclusionRegionIndex();
+
+    // 정렬 순서: (시각 내림차순, 같은 시각이면 ID 내림차순), 시각 없는 문서는 마지막
+    private final ConclusionEntry may3b = entry("b", LocalDateTime.of(2025, 5, 3, 12, 0));
+    private final ConclusionEntry may3a = entry("a", LocalDateTime.of(2025, 5, 3, 12, 0));
+    private final ConclusionEntry may1 = entry("c", LocalDateTime.of(2025, 5, 1, 0, 0));
+    private final ConclusionEntry apr30 = entry("d", LocalDateTime.of(2025, 4, 30, 23, 59));
+    private final ConclusionEntry undatedE = entry("e", null);
+    private final ConclusionEntry undatedD = entry("d0", null);
+
+    @BeforeEach
+    void setUp() {
+        index.onReset(List.of(apr30, undatedD, may3a, may1, undatedE, may3b));
+    }
+
+    @Test
+    void 커서를_이어_받으면_빠짐없이_중복없이_전체를_순서대로_읽는다() {
+        List<ConclusionEntry> all = new ArrayList<>();
+        ReportCursor cursor = null;
+        do {
+            List<ConclusionEntry> page = index.seek(REGION, cursor, null, null, 2).orElseThrow();
+            all.addAll(page);
+            cursor = page.size() == 2 ? ReportCursor.of(page.get(1)) : null;
+        } while (cursor != null);
+
+        assertThat(all).containsExactly(may3b, may3a, may1, apr30, undatedE, undatedD);
+    }
+
+    @Test
+    void 같은_시각에서는_ID로_이어서_찾는다() {
+        assertThat(index.seek(REGION, ReportCursor.of(may3b), null, null, 2).orElseThrow())
+                .containsExactly(may3a, may1);
+    }
+
+    @Test
+    void 시각_없는_커서는_시각_없는_문서_사이에서_이어서_찾는다() {
+        assertThat(index.seek(REGION, new ReportCursor(null, "e"), null, null, 10).orElseThrow())
+                .containsExactly(undatedD);
+    }
+
+    @Test
+    void 커서_문서가_삭제되어도_그_다음_위치부터_찾는다() {
+        index.onRemove(may1);
+
+        assertThat(index.seek(REGION, ReportCursor.of(may1), null, null, 10).orElseThrow())
+                .containsExactly(apr30, undatedE, undatedD);
+    }
+
+    @Test
+    void 새_문서가_추가되어도_다음_페이지가_밀리지_않는다() {
+        ReportCursor cursor = ReportCursor.of(may3a);
+
+        index.onUpsert(null, entry("z", LocalDateTime.of(2025, 6, 1, 0, 0)));
+
+        assertThat(index.seek(REGION, cursor, null, null, 1).orElseThrow()).containsExactly(may1);
+    }
+
+    @Test
+    void 월_범위를_주면_그_달의_문서만_반환한다() {
+        LocalDateTime notBefore = LocalDateTime.of(2025, 5, 1, 0, 0);
+        LocalDateTime before = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+        assertThat(index.seek(REGION, null, notBefore, before, 10).orElseThrow())
+                .containsExactly(may3b, may3a, may1);
+        assertThat(index.seek(REGION, ReportCursor.of(may3a), notBefore, before, 10).orElseThrow())
+                .containsExactly(may1);
+    }
+
+    @Test
+    void 범위의_끝과_같은_시각은_다음_달로_본다() {
+        LocalDateTime notBefore = LocalDateTime.of(2025, 4, 1, 0, 0);
+        LocalDateTime before = LocalDateTime.of(2025, 5, 1, 0, 0);
+
+        assertThat(index.seek(REGION, null, notBefore, before, 10).orElseThrow()).containsExactly(apr30);
+    }
+
+    @Test
+    void 없는_지역은_결과가_없다() {
+        assertThat(index.seek(2, null, null, null, 10)).isEmpty();
+    }
+
+    private static ConclusionEntry entry(String id, LocalDateTime reportedAt) {
+        return new ConclusionEntry(id, null, reportedAt, new int[]{REGION});
+    }
+}
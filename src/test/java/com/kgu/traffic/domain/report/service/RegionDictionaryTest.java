@@ -0,0 +1,98 @@
+package com.kgu.traffic.domain.report.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionDictionaryTest {
+
+    private final RegionDictionary dictionary = new RegionDictionary();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "수원중부경찰서   | 중부구",
+            "수원남부경찰서   | 남부구",
+            "' 팔달구 '       | 팔달구",
+            // 관할 이름 앞에 글자가 없으면 그대로
+            "팔달경찰서       | 팔달경찰서",
+            // 한글이 아니면 그대로
+            "ABC경찰서        | ABC경찰서",
+            "경기도           | 경기도"
+    })
+    void 이름을_정규화한다(String name, String expected) {
+        assertThat(dictionary.canonicalize(name)).isEqualTo(expected);
+    }
+
+    @Test
+    void 공백으로_나눈_토큰마다_코드를_부여한다() {
+        int[] codes = dictionary.encode("경기도 수원시  팔달구");
+
+        assertThat(names(codes)).containsExactlyInAnyOrder("경기도", "수원시", "팔달구");
+        assertThat(codes).isSorted();
+        assertThat(dictionary.size()).isEqualTo(3);
+        // 이미 등록된 이름은 같은 코드
+        assertThat(dictionary.encode("팔달구 수원시")).containsExactly(dictionary.find("수원시"), dictionary.find("팔달구"));
+    }
+
+    @Test
+    void 경찰서명으로도_같은_지역을_찾는다() {
+        dictionary.encode("경기도 수원시 중부구");
+
+        assertThat(dictionary.find("수원중부경찰서")).isEqualTo(dictionary.find("중부구"));
+        assertThat(dictionary.find("수원중부경찰서")).isNotEqualTo(RegionDictionary.NO_CODE);
+    }
+
+    @Test
+    void 등록되지_않았거나_빈_이름은_코드가_없다() {
+        assertThat(dictionary.find("팔달구")).isEqualTo(RegionDictionary.NO_CODE);
+        assertThat(dictionary.find(null)).isEqualTo(RegionDictionary.NO_CODE);
+        assertThat(dictionary.find(" ")).isEqualTo(RegionDictionary.NO_CODE);
+        assertThat(dictionary.encode(null)).isEmpty();
+        assertThat(dictionary.encode("   ")).isEmpty();
+    }
+
+    @Test
+    void 붙여_쓴_지역은_등록된_이름으로_빈틈없이_나뉠_때_조각_코드도_갖는다() {
+        dictionary.registerRegions(List.of("수원시 팔달구"));
+
+        int[] codes = dictionary.encode("수원시팔달구");
+
+        assertThat(names(codes)).containsExactlyInAnyOrder("수원시팔달구", "수원시", "팔달구");
+    }
+
+    @Test
+    void 나머지를_나눌_수_없으면_짧은_이름으로_되돌아가_다시_나눈다() {
+        dictionary.registerRegions(List.of("수원시 수원 시장"));
+
+        assertThat(names(dictionary.encode("수원시장"))).containsExactlyInAnyOrder("수원시장", "수원", "시장");
+    }
+
+    @Test
+    void 일부만_일치하면_나누지_않는다() {
+        dictionary.registerRegions(List.of("남구 수원시"));
+
+        // "남구"가 "강남구"에 부분 일치하지 않음
+        assertThat(names(dictionary.encode("강남구"))).containsExactly("강남구");
+        assertThat(names(dictionary.encode("수원시청"))).containsExactly("수원시청");
+    }
+
+    @Test
+    void 새_이름이_등록되어도_기존_코드는_바뀌지_않는다() {
+        int before = dictionary.encode("팔달구")[0];
+
+        dictionary.registerRegions(List.of("경기도 수원시 장안구"));
+
+        assertThat(dictionary.find("팔달구")).isEqualTo(before);
+        assertThat(dictionary.nameOf(before)).isEqualTo("팔달구");
+        assertThat(dictionary.size()).isEqualTo(4);
+    }
+
+    private List<String> names(int[] codes) {
+        return Arrays.stream(codes).mapToObj(dictionary::nameOf).toList();
+    }
+}
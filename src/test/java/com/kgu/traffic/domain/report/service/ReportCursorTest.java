@@ -0,0 +1,75 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.global.exception.ErrorCode;
+import com.kgu.traffic.global.exception.TrafficException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReportCursorTest {
+
+    private static final LocalDateTime REPORTED_AT = LocalDateTime.of(2025, 5, 3, 15, 5, 2, 123_000_000);
+
+    @Test
+    void 시각과_ID를_URL_안전한_토큰으로_주고받는다() {
+        ReportCursor cursor = new ReportCursor(REPORTED_AT, "doc-1");
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(ReportCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void 시각이_없는_커서도_주고받는다() {
+        ReportCursor cursor = new ReportCursor(null, "doc-1");
+
+        assertThat(ReportCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void ID에_구분자가_있어도_첫_구분자만으로_나눈다() {
+        ReportCursor cursor = new ReportCursor(REPORTED_AT, "a|b");
+
+        assertThat(ReportCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 빈_토큰은_첫_페이지() {
+        assertThat(ReportCursor.decode(null)).isNull();
+        assertThat(ReportCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void 문서_ID만_담은_이전_형식_토큰은_시각_없는_커서() {
+        String legacy = Base64.getUrlEncoder().encodeToString("doc-1".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(ReportCursor.decode(legacy)).isEqualTo(new ReportCursor(null, "doc-1"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm90LWEtdGltZXxkb2M", "MjAyNS0wNS0wM1QxNTowNTowMnw"})
+    void 잘못된_토큰은_INVALID_PAGE_TOKEN(String token) {
+        // 두 번째: "not-a-time|doc", 세 번째: "2025-05-03T15:05:02|" (ID 없음)
+        assertThatThrownBy(() -> ReportCursor.decode(token))
+                .isInstanceOf(TrafficException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PAGE_TOKEN);
+    }
+
+    @Test
+    void DB_커서의_ID는_숫자여야_한다() {
+        assertThat(new ReportCursor(REPORTED_AT, "42").idAsLong()).isEqualTo(42L);
+        assertThatThrownBy(() -> new ReportCursor(REPORTED_AT, "doc-1").idAsLong())
+                .isInstanceOf(TrafficException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PAGE_TOKEN);
+    }
+}
@@ -0,0 +1,166 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.kgu.traffic.global.cache.ManagerRegionCache;
+import com.kgu.traffic.global.jwt.AdminPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReportETagsTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String ADMIN_REGION = "수원중부경찰서";
+
+    private final ConclusionMirror conclusionMirror = mock(ConclusionMirror.class);
+    private final ConclusionVersions conclusionVersions = new ConclusionVersions();
+    private final RegionDictionary regionDictionary = new RegionDictionary();
+    private final ManagerRegionCache managerRegionCache = mock(ManagerRegionCache.class);
+    private final SignedUrlService signedUrlService = mock(SignedUrlService.class);
+
+    private int regionCode;
+
+    @BeforeEach
+    void setUp() {
+        regionDictionary.encode("경기도 수원시 중부구");
+        regionCode = regionDictionary.find("중부구");
+        given(conclusionMirror.isReady()).willReturn(true);
+        given(managerRegionCache.getIfPresent(ADMIN_REGION)).willReturn("중부구");
+        given(signedUrlService.reuseWindow()).willReturn(7L);
+        AdminPrincipal admin = new AdminPrincipal(1L, "admin", ADMIN_REGION);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(admin, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 지역_버전이_바뀌면_목록_ETag도_바뀐다() {
+        ReportETags etags = etags(Clock.system(KST));
+        String before = etags.forList("list");
+
+        conclusionVersions.changed(null, entry("a", regionCode));
+
+        assertThat(before).startsWith("\"list-").endsWith("\"");
+        assertThat(etags.forList("list")).isNotEqualTo(before);
+    }
+
+    @Test
+    void 다른_지역의_변경은_목록_ETag를_바꾸지_않는다() {
+        ReportETags etags = etags(Clock.system(KST));
+        String before = etags.forList("list");
+
+        conclusionVersions.changed(null, entry("a", regionDictionary.find("경기도")));
+
+        assertThat(etags.forList("list")).isEqualTo(before);
+    }
+
+    @Test
+    void 통계_ETag의_달은_KST_기준이다() {
+        // UTC로는 5월 31일이지만 KST로는 6월 1일
+        Clock clock = Clock.fixed(Instant.parse("2025-05-31T15:30:00Z"), KST);
+
+        assertThat(etags(clock).forStatistics()).contains("-2025-06");
+    }
+
+    @Test
+    void 달이_바뀌면_변경이_없어도_통계_ETag가_바뀐다() {
+        String may = etags(Clock.fixed(Instant.parse("2025-05-31T14:59:59Z"), KST)).forStatistics();
+        String june = etags(Clock.fixed(Instant.parse("2025-05-31T15:00:00Z"), KST)).forStatistics();
+
+        assertThat(may).isNotEqualTo(june);
+    }
+
+    @Test
+    void 미러_적재_전이거나_관리_지역을_모르면_ETag가_없다() {
+        ReportETags etags = etags(Clock.system(KST));
+        given(managerRegionCache.getIfPresent(ADMIN_REGION)).willReturn(null);
+
+        assertThat(etags.forList("list")).isNull();
+        assertThat(etags.forStatistics()).isNull();
+
+        given(conclusionMirror.isReady()).willReturn(false);
+
+        assertThat(etags.forDetail("a")).isNull();
+    }
+
+    @Test
+    void 상세_ETag는_문서_수정_시각을_따른다() {
+        QueryDocumentSnapshot document = mock(QueryDocumentSnapshot.class);
+        given(document.getUpdateTime()).willReturn(Timestamp.ofTimeSecondsAndNanos(100, 5));
+        given(conclusionMirror.get("a"))
+                .willReturn(Optional.of(new ConclusionEntry("a", document, null, new int[]{regionCode})));
+        given(conclusionMirror.get("b")).willReturn(Optional.empty());
+
+        ReportETags etags = etags(Clock.system(KST));
+
+        assertThat(etags.forDetail("a")).isEqualTo("\"detail-a-100-5-7\"");
+        assertThat(etags.forDetail("b")).isNull();
+    }
+
+    @Test
+    void If_None_Match가_같으면_304로_응답한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reports");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"list-1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = etags(Clock.system(KST)).notModified(new ServletWebRequest(request, response), "\"list-1\"");
+
+        assertThat(notModified).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"list-1\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+    }
+
+    @Test
+    void If_None_Match가_다르면_ETag만_설정하고_평소대로_응답한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reports");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"list-0\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = etags(Clock.system(KST)).notModified(new ServletWebRequest(request, response), "\"list-1\"");
+
+        assertThat(notModified).isFalse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"list-1\"");
+    }
+
+    @Test
+    void ETag가_없으면_조건부_요청을_처리하지_않는다() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reports");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(etags(Clock.system(KST)).notModified(new ServletWebRequest(request, response), null)).isFalse();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    private ReportETags etags(Clock clock) {
+        return new ReportETags(conclusionMirror, conclusionVersions, regionDictionary, managerRegionCache,
+                signedUrlService, clock);
+    }
+
+    private static ConclusionEntry entry(String id, int regionCode) {
+        return new ConclusionEntry(id, null, null, new int[]{regionCode});
+    }
+}
@@ -0,0 +1,62 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.domain.report.repository.ReportRepository;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReportExcelServiceTest {
+
+    private final ReportRepository reportRepository = mock(ReportRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 미터 등록 요청마다 호출되는 필터로 등록 횟수를 셈
+    private final Map<String, AtomicInteger> registrations = new ConcurrentHashMap<>();
+
+    private ReportExcelService reportExcelService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                registrations.computeIfAbsent(id.getName(), name -> new AtomicInteger()).incrementAndGet();
+                return id;
+            }
+        });
+        reportExcelService = new ReportExcelService(reportRepository, mock(EntityManager.class), meterRegistry);
+    }
+
+    @Test
+    void 내보내기_미터는_한_번만_등록하고_재사용한다() throws IOException {
+        given(reportRepository.streamApprovedByBrand("kickgoing")).willAnswer(invocation -> Stream.empty());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(reportExcelService.writeApprovedReportExcel("kickgoing", null, new ByteArrayOutputStream()))
+                    .isZero();
+        }
+
+        assertThat(registrations.get("report.export")).hasValue(1);
+        assertThat(registrations.get("report.export.rows")).hasValue(1);
+        assertThat(registrations.get("report.export.bytes")).hasValue(1);
+        assertThat(meterRegistry.get("report.export")
+                .tag("mode", ReportExcelService.MODE_JOB)
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("report.export.bytes").tag("mode", ReportExcelService.MODE_JOB)
+                .summary().totalAmount()).isPositive();
+    }
+}
@@ -0,0 +1,78 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.kgu.traffic.global.exception.ErrorCode;
+import com.kgu.traffic.global.exception.TrafficException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReportStageTimerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 미터 등록 요청마다 호출되는 필터로 등록 횟수를 셈
+    private final Map<String, AtomicInteger> registrations = new ConcurrentHashMap<>();
+
+    private ReportStageTimer stageTimer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                registrations.computeIfAbsent(id.getName(), name -> new AtomicInteger()).incrementAndGet();
+                return id;
+            }
+        });
+        stageTimer = new ReportStageTimer(meterRegistry);
+    }
+
+    @Test
+    void 같은_태그의_타이머는_한_번만_등록하고_재사용한다() {
+        for (int i = 0; i < 3; i++) {
+            stageTimer.time("list", "admin", () -> 1);
+        }
+        assertThatThrownBy(() -> stageTimer.time("list", "admin", () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registrations.get("report.stage")).hasValue(2);
+        assertThat(meterRegistry.get("report.stage").tag("outcome", "success").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("report.stage").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 요청_전체_시간은_파이프라인과_결과별로_기록한다() {
+        for (int i = 0; i < 2; i++) {
+            stageTimer.pipeline("list", System.nanoTime(), CompletableFuture.completedFuture(1));
+        }
+        stageTimer.pipeline("list", System.nanoTime(), CompletableFuture.failedFuture(new IllegalStateException()));
+
+        assertThat(registrations.get("report.pipeline")).hasValue(2);
+        assertThat(meterRegistry.get("report.pipeline").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("report.pipeline").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 제한_시간을_넘긴_단계는_조회_시간_초과로_실패한다() {
+        CompletableFuture<Object> stage = stageTimer.stage("list", "conclusions", Duration.ofMillis(10),
+                CompletableFuture::new);
+
+        assertThatThrownBy(stage::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(TrafficException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.REPORT_LOOKUP_TIMEOUT));
+    }
+}
@@ -0,0 +1,155 @@
+package com.kgu.traffic.domain.report.service;
+
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.kgu.traffic.domain.report.dto.response.ReportStatisticsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.kgu.traffic.domain.report.service.ReportStatisticsCounter.RESULT_APPROVED;
+import static com.kgu.traffic.domain.report.service.ReportStatisticsCounter.RESULT_REJECTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportStatisticsCounterTest {
+
+    private static final YearMonth MAY = YearMonth.of(2025, 5);
+    private static final LocalDateTime IN_MAY = LocalDateTime.of(2025, 5, 3, 15, 5);
+    private static final LocalDateTime IN_APRIL = LocalDateTime.of(2025, 4, 30, 23, 59);
+
+    private ConclusionMirror conclusionMirror;
+    private ConclusionVersions conclusionVersions;
+    private ReportStatisticsCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        conclusionMirror = mock(ConclusionMirror.class);
+        conclusionVersions = new ConclusionVersions();
+        counter = new ReportStatisticsCounter(conclusionMirror, conclusionVersions);
+    }
+
+    @Test
+    void 초기_적재는_지역별로_전체_월간_승인_반려를_센다() {
+        counter.onReset(List.of(
+                entry("a", IN_MAY, RESULT_APPROVED, 1),
+                entry("b", IN_APRIL, RESULT_REJECTED, 1, 2),
+                entry("c", IN_MAY, null, 2),
+                entry("d", null, null, 1)
+        ));
+
+        assertThat(counter.get(1, MAY)).contains(new ReportStatisticsResponse(3, 1, 1, 1));
+        assertThat(counter.get(2, MAY)).contains(new ReportStatisticsResponse(2, 1, 0, 1));
+        assertThat(counter.get(3, MAY)).isEmpty();
+    }
+
+    @Test
+    void 처리_결과는_이전_결과를_빼고_새_결과를_더한다() {
+        counter.onReset(List.of(entry("a", IN_MAY, null, 1), entry("b", IN_MAY, RESULT_REJECTED, 1)));
+
+        counter.applyResult("a", RESULT_APPROVED);
+        counter.applyResult("b", RESULT_APPROVED);
+
+        assertThat(counter.get(1, MAY)).contains(new ReportStatisticsResponse(2, 2, 2, 0));
+    }
+
+    @Test
+    void 미러에_없는_문서의_처리_결과는_무시한다() {
+        counter.onReset(List.of(entry("a", IN_MAY, null, 1)));
+
+        counter.applyResult("unknown", RESULT_APPROVED);
+
+        assertThat(counter.get(1, MAY)).contains(new ReportStatisticsResponse(1, 1, 0, 0));
+    }
+
+    @Test
+    void 처리_결과를_반영하면_그_문서_지역의_버전을_올린다() {
+        counter.onReset(List.of(entry("a", IN_MAY, null, 1, 2)));
+
+        counter.applyResult("a", RESULT_APPROVED);
+
+        assertThat(conclusionVersions.regionVersion(1)).isEqualTo(1);
+        assertThat(conclusionVersions.regionVersion(2)).isEqualTo(1);
+        assertThat(conclusionVersions.regionVersion(3)).isZero();
+    }
+
+    @Test
+    void 미러에_없는_문서의_처리_결과는_버전을_올리지_않는다() {
+        counter.onReset(List.of(entry("a", IN_MAY, null, 1)));
+
+        counter.applyResult("unknown", RESULT_APPROVED);
+
+        assertThat(conclusionVersions.regionVersion(1)).isZero();
+    }
+
+    @Test
+    void 수정은_이전_지역과_월의_기여분을_옮긴다() {
+        ConclusionEntry before = entry("a", IN_APRIL, RESULT_APPROVED, 1);
+        counter.onReset(List.of(before));
+
+        counter.onUpsert(before, entry("a", IN_MAY, RESULT_APPROVED, 2));
+
+        assertThat(counter.get(1, MAY)).contains(new ReportStatisticsResponse(0, 0, 0, 0));
+        assertThat(counter.get(2, MAY)).contains(new ReportStatisticsResponse(1, 1, 1, 0));
+    }
+
+    @Test
+    void 추가와_삭제를_반영한다() {
+        counter.onReset(List.of());
+        ConclusionEntry added = entry("a", IN_MAY, RESULT_REJECTED, 1);
+
+        counter.onUpsert(null, added);
+        assertThat(counter.get(1, MAY)).contains(new ReportStatisticsResponse(1, 1, 0, 1));
+
+        counter.onRemove(added);
+        assertThat(counter.get(1, MAY)).contains(new ReportStatisticsResponse(0, 0, 0, 0));
+    }
+
+    @Test
+    void 재집계는_미러_기준으로_어긋난_카운터를_교체한다() {
+        ConclusionEntry a = entry("a", IN_MAY, RESULT_APPROVED, 1);
+        counter.onReset(List.of(a));
+        // 미러에는 반영되지 않은 증분 (예: 이벤트 유실)
+        counter.onUpsert(null, entry("ghost", IN_MAY, null, 1));
+        when(conclusionMirror.isReady()).thenReturn(true);
+        when(conclusionMirror.getAll()).thenReturn(List.of(a));
+
+        counter.recount();
+
+        assertThat(counter.get(1, MAY)).contains(new ReportStatisticsResponse(1, 1, 1, 0));
+    }
+
+    @Test
+    void 재집계로_보정한_지역만_버전을_올린다() {
+        ConclusionEntry a = entry("a", IN_MAY, RESULT_APPROVED, 1);
+        ConclusionEntry b = entry("b", IN_MAY, null, 2);
+        counter.onReset(List.of(a, b));
+        counter.onUpsert(null, entry("ghost", IN_MAY, null, 1));
+        when(conclusionMirror.isReady()).thenReturn(true);
+        when(conclusionMirror.getAll()).thenReturn(List.of(a, b));
+
+        counter.recount();
+
+        assertThat(conclusionVersions.regionVersion(1)).isEqualTo(1);
+        assertThat(conclusionVersions.regionVersion(2)).isZero();
+    }
+
+    @Test
+    void 미러_적재_전에는_재집계하지_않는다() {
+        counter.onReset(List.of(entry("a", IN_MAY, null, 1)));
+        when(conclusionMirror.isReady()).thenReturn(false);
+
+        counter.recount();
+
+        assertThat(counter.get(1, MAY)).contains(new ReportStatisticsResponse(1, 1, 0, 0));
+    }
+
+    private static ConclusionEntry entry(String id, LocalDateTime reportedAt, String result, int... regionCodes) {
+        QueryDocumentSnapshot document = mock(QueryDocumentSnapshot.class);
+        when(document.getString("result")).thenReturn(result);
+        return new ConclusionEntry(id, document, reportedAt, regionCodes);
+    }
+}
@@ -0,0 +1,58 @@
+package com.kgu.traffic.global.cache;
+
+import com.kgu.traffic.domain.auth.entity.Admin;
+import com.kgu.traffic.domain.auth.repository.AdminRepository;
+import com.kgu.traffic.global.jwt.AdminPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AdminPrincipalCacheTest {
+
+    private final AdminRepository adminRepository = mock(AdminRepository.class);
+    private final AdminPrincipalCache cache =
+            new AdminPrincipalCache(adminRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @Test
+    void 관리자를_불변_principal로_캐시한다() {
+        given(adminRepository.findByLoginId("admin")).willReturn(Optional.of(
+                Admin.builder().id(1L).loginId("admin").password("secret").region("수원중부경찰서").build()));
+
+        Optional<AdminPrincipal> first = cache.findByLoginId("admin");
+        Optional<AdminPrincipal> second = cache.findByLoginId("admin");
+
+        assertThat(first).contains(new AdminPrincipal(1L, "admin", "수원중부경찰서"));
+        assertThat(second.orElseThrow()).isSameAs(first.orElseThrow());
+        verify(adminRepository, times(1)).findByLoginId("admin");
+    }
+
+    @Test
+    void 비우면_다시_조회한다() {
+        given(adminRepository.findByLoginId("admin"))
+                .willReturn(Optional.of(Admin.builder().id(1L).loginId("admin").region("수원중부경찰서").build()));
+        cache.findByLoginId("admin");
+
+        cache.invalidate("admin");
+        cache.findByLoginId("admin");
+
+        verify(adminRepository, times(2)).findByLoginId("admin");
+    }
+
+    @Test
+    void 없는_관리자는_캐시하지_않는다() {
+        given(adminRepository.findByLoginId("nobody")).willReturn(Optional.empty());
+
+        assertThat(cache.findByLoginId("nobody")).isEmpty();
+        assertThat(cache.findByLoginId("nobody")).isEmpty();
+
+        verify(adminRepository, times(2)).findByLoginId("nobody");
+    }
+}